@@ -0,0 +1,78 @@
+package com.the11job.backend.global.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 요청마다 access 토큰을 검증하는 비용 비교 (단일 스레드 기준 초당 검증 토큰 수)
+ * <p>
+ * legacy는 변경 전 JWTFilter처럼 파서를 매번 만들고 isExpired, getEmail에서 토큰을 두 번 파싱합니다. verify는 공유 파서로 한 번만 파싱하고,
+ * cachedVerify는 VerifiedTokenCache에 검증 결과가 있는 경우(캐시 적중)입니다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtVerifyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "jwt-verify-benchmark-secret-key-0123456789";
+
+    private JWTUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        accessToken = jwtUtil.createJwt(VerifiedToken.ACCESS, 1L, "user@example.com", "ROLE_USER",
+                JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, true, 10_000, Duration.ofMinutes(5));
+        verifiedTokenCache.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        // 요청마다 헤더에서 새로 잘라낸 토큰 문자열이 들어오므로, 해시가 계산되지 않은 새 문자열로 조회
+        return verifiedTokenCache.verify(new String(accessToken));
+    }
+
+    @Benchmark
+    public String legacy() {
+        Date expiration = legacyClaims().getExpiration();
+        if (expiration.before(new Date())) {
+            return null;
+        }
+        return legacyClaims().get("email", String.class);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+}
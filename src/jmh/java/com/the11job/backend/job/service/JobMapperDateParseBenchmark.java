@@ -0,0 +1,70 @@
+package com.the11job.backend.job.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JobMapper의 직접 구현한 날짜 파싱과 기존 DateTimeFormatter + substring 방식을 비교합니다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=JobMapperDateParseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobMapperDateParseBenchmark {
+
+    // 변경 전 JobMapper가 사용하던 포맷터
+    private static final DateTimeFormatter LEGACY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // API 응답의 등록일(JO_REG_DT) 형태 (상수 폴딩을 막기 위해 final이 아닌 필드로 둠)
+    private String registrationDate = "2025-12-10";
+
+    // 마감일(RCEPT_CLOS_NM): 날짜가 있는 값, 날짜가 없는 값(괄호 없음)
+    @Param({"마감일 (2025-12-31)", "채용시까지"})
+    private String closingName;
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return JobMapper.safeParseDate(registrationDate);
+    }
+
+    @Benchmark
+    public LocalDate parseDateLegacy() {
+        return legacyParseDate(registrationDate);
+    }
+
+    @Benchmark
+    public LocalDate parseClosingDate() {
+        return JobMapper.safeParseClosingDate(closingName);
+    }
+
+    @Benchmark
+    public LocalDate parseClosingDateLegacy() {
+        if (!closingName.contains("(")) {
+            return null;
+        }
+        int start = closingName.indexOf('(') + 1;
+        int end = closingName.indexOf(')');
+        return start > 0 && end > start ? legacyParseDate(closingName.substring(start, end)) : null;
+    }
+
+    private static LocalDate legacyParseDate(String value) {
+        if (value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, LEGACY_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
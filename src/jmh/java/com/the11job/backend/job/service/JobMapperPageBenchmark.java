@@ -0,0 +1,185 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.api.seouljob.SeoulJobInfo.JobDetail;
+import com.the11job.backend.job.dto.WorkRegion;
+import com.the11job.backend.job.entity.Job;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * API 한 페이지(1,000 row)를 Job 엔티티로 변환하는 처리량(rows/sec)과 row당 할당량을 비교합니다.
+ * <p>
+ * mapPage는 JobMapper.toEntity(직접 구현한 날짜 파싱, 범주형 값 공유 사전, 스레드별 SHA-256 재사용)를, mapPageLegacy는 변경 전 매핑(DateTimeFormatter +
+ * substring, row마다 MessageDigest 생성, 값마다 새 String 보관)을 사용합니다. 두 매핑 모두 근무지 주소에서 지역을 추출합니다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=JobMapperPageBenchmark (row당 할당 바이트는 gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JobMapperPageBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    private static final String[] CAREERS = {"신입", "경력", "무관"};
+    private static final String[] ACADEMICS = {"학력무관", "고졸", "대졸(2,3년)", "대졸(4년)"};
+    private static final String[] JOB_CODES = {"응용 소프트웨어 개발자", "경리 사무원", "요양보호사", "청소원", "영업원"};
+    private static final String[] ADDRESSES = {
+            "서울특별시 강남구 테헤란로 27", "서울특별시 마포구 월드컵북로 400", "경기 성남시 분당구 판교역로 235",
+            "06236 서울특별시 강남구 테헤란로 27", "인천광역시 연수구 송도과학로 32"};
+    private static final String[] CLOSING_NAMES = {"마감일 (2025-12-31)", "채용시까지", "마감일 (2026-01-15)"};
+
+    private JobMapper jobMapper;
+    private LegacyJobMapper legacyJobMapper;
+    private List<JobDetail> page;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jobMapper = new JobMapper(new JobCategoryDictionary(10_000));
+        legacyJobMapper = new LegacyJobMapper();
+
+        // 파서가 row마다 새 String을 만드는 것처럼 값마다 별도 인스턴스를 사용
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            JobDetail detail = new JobDetail();
+            set(detail, "joRequestNo", "K1512025120" + (10_000 + i));
+            set(detail, "companyName", "(주)일일잡 " + (i % 200));
+            set(detail, "jobSubject", "채용 공고 " + i);
+            set(detail, "workAddress", new String(ADDRESSES[i % ADDRESSES.length]));
+            set(detail, "jobCodeName", new String(JOB_CODES[i % JOB_CODES.length]));
+            set(detail, "academicName", new String(ACADEMICS[i % ACADEMICS.length]));
+            set(detail, "careerConditionName", new String(CAREERS[i % CAREERS.length]));
+            set(detail, "jobRegistrationDate", "2025-12-" + (10 + i % 20));
+            set(detail, "receiptClosingName", new String(CLOSING_NAMES[i % CLOSING_NAMES.length]));
+            page.add(detail);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void mapPage(Blackhole blackhole) {
+        for (JobDetail detail : page) {
+            blackhole.consume(jobMapper.toEntity(detail));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public void mapPageLegacy(Blackhole blackhole) {
+        for (JobDetail detail : page) {
+            blackhole.consume(legacyJobMapper.toEntity(detail));
+        }
+    }
+
+    private static void set(JobDetail detail, String fieldName, String value) throws ReflectiveOperationException {
+        Field field = JobDetail.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(detail, value);
+    }
+
+    /**
+     * 변경 전 JobMapper의 변환 (비교용)
+     */
+    private static final class LegacyJobMapper {
+
+        private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        private static final String SEOUL_JOB_DETAIL_URL =
+                "https://job.seoul.go.kr/www/jobInfo/getJobInfoDetail.do?joReqstNo=";
+        private static final char FIELD_SEPARATOR = '\u001F';
+        private static final String NULL_MARKER = "\u0000";
+
+        Job toEntity(JobDetail detail) {
+            LocalDate registrationDate = safeParseDate(detail.getJobRegistrationDate());
+            LocalDate expirationDate = safeParseClosingDate(detail.getReceiptClosingName());
+            String joRequestNo = detail.getJoRequestNo();
+            String detailUrl = joRequestNo == null || joRequestNo.trim().isEmpty()
+                    ? null : SEOUL_JOB_DETAIL_URL + joRequestNo;
+            WorkRegion region = WorkRegion.parse(detail.getWorkAddress()).orElse(null);
+            String sidoCode = region == null ? null : region.sidoCode();
+            String sigunguName = region == null ? null : region.sigunguName();
+
+            return Job.builder()
+                    .requestNo(joRequestNo)
+                    .title(detail.getJobSubject())
+                    .workAddress(detail.getWorkAddress())
+                    .sidoCode(sidoCode)
+                    .sigunguName(sigunguName)
+                    .jobCodeName(detail.getJobCodeName())
+                    .academicName(detail.getAcademicName())
+                    .careerName(detail.getCareerConditionName())
+                    .registrationDate(registrationDate)
+                    .expirationDate(expirationDate)
+                    .detailUrl(detailUrl)
+                    .contentHash(contentHash(
+                            normalizeCompanyName(detail.getCompanyName()),
+                            detail.getJobSubject(),
+                            detail.getWorkAddress(),
+                            sidoCode,
+                            sigunguName,
+                            detail.getJobCodeName(),
+                            detail.getAcademicName(),
+                            detail.getCareerConditionName(),
+                            String.valueOf(registrationDate),
+                            String.valueOf(expirationDate),
+                            detailUrl))
+                    .build();
+        }
+
+        private static String normalizeCompanyName(String companyName) {
+            return companyName == null || companyName.trim().isEmpty() ? "미상" : companyName.trim();
+        }
+
+        private static String contentHash(String... values) {
+            StringBuilder content = new StringBuilder(256);
+            for (String value : values) {
+                content.append(value == null ? NULL_MARKER : value).append(FIELD_SEPARATOR);
+            }
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static LocalDate safeParseDate(String dateString) {
+            if (dateString == null || dateString.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(dateString, DATE_FORMATTER);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+
+        private static LocalDate safeParseClosingDate(String closingName) {
+            if (closingName == null || !closingName.contains("(")) {
+                return null;
+            }
+            int start = closingName.indexOf('(') + 1;
+            int end = closingName.indexOf(')');
+            return start > 0 && end > start ? safeParseDate(closingName.substring(start, end)) : null;
+        }
+    }
+}
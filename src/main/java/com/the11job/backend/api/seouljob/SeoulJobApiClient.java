@@ -1,21 +1,23 @@
 package com.the11job.backend.api.seouljob;
 
 import com.the11job.backend.api.exception.ApiClientException;
+import com.the11job.backend.api.seouljob.SeoulJobInfo.JobDetail;
 import com.the11job.backend.global.exception.ErrorCode;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
-import java.io.StringReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
- * 서울시 일자리 정보 API 클라이언트 (WebClient 및 Jakarta EE 기반)
+ * 서울시 일자리 정보 API 클라이언트 (WebClient 및 StAX 스트리밍 파싱 기반)
  */
 @Slf4j
 @Component
@@ -32,20 +34,15 @@ public class SeoulJobApiClient {
     private final String BASE_URL = "http://openapi.seoul.go.kr:8088";
     private final String API_PATH = "/{API_KEY}/xml/GetJobInfo/{start}/{end}";
 
+    // 응답 본문을 InputStream으로 읽을 때 미리 요청해 둘 DataBuffer 개수
+    private static final int BODY_BUFFER_DEMAND = 16;
+
     /**
-     * WebClient.Builder를 주입받아 설정 후 WebClient 인스턴스 생성 WebClient의 기본 버퍼 제한(256KB)을 늘려 대용량 XML 응답을 처리할 수 있도록 설정
+     * WebClient.Builder를 주입받아 WebClient 인스턴스 생성. 응답 본문은 DataBuffer 단위로 스트리밍 파싱하므로 전문을 메모리에 모으기 위한 버퍼 제한 확장이 필요 없습니다.
      */
     public SeoulJobApiClient(WebClient.Builder webClientBuilder) {
-
-        // 최대 버퍼 크기를 4MB로 설정 (1000건의 XML 데이터 수신 대비)
-        final int size = 1024 * 1024 * 4; // 4MB
-        final ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(size))
-                .build();
-
         this.webClient = webClientBuilder
                 .baseUrl(BASE_URL)
-                .exchangeStrategies(strategies) // 설정된 strategies 적용
                 .build();
     }
 
@@ -58,13 +55,63 @@ public class SeoulJobApiClient {
      */
     public Optional<SeoulJobInfo> getJobInfo(int startIndex, int endIndex) {
 
+        // WebClient 응답을 스트리밍 파싱하는 동기/블로킹 방식 호출 (배치 처리 시 일반적)
+        // 재시도는 구간별 처리 상태를 기록하는 호출하는 쪽(JobBatchService)에서 백오프로 처리
+        Mono<SeoulJobInfo> jobInfoMono = Mono.fromCallable(() -> readJobInfo(startIndex, endIndex));
+
+        try {
+            SeoulJobInfo jobInfo = jobInfoMono.block();
+
+            if (jobInfo == null || (jobInfo.getListTotalCount() == null && jobInfo.getResult() == null)) {
+                log.warn("API 응답 XML이 NULL이거나 비어있습니다. API 키 또는 URL 확인 필요.");
+                return Optional.empty();
+            }
+
+            return Optional.of(jobInfo);
+
+        } catch (ApiClientException e) {
+            throw e;
+        } catch (Exception e) {
+            // 네트워크 등 기타 오류 발생 시 전역 ErrorCode 사용
+            throw new ApiClientException(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR, "서울일자리 API 호출 중 통신 오류 발생", e);
+        }
+    }
+
+    /**
+     * 서울시 일자리 정보의 row를 하나씩 방출합니다. 응답을 String으로 모으지 않고 DataBuffer가 도착하는 대로 파싱하므로, 페이지 크기와 관계없이 메모리 사용량이 일정합니다.
+     * <p>
+     * 재시도는 이미 방출된 row가 중복되지 않도록 호출하는 쪽에서 구간 단위로 처리합니다.
+     *
+     * @param startIndex 시작 인덱스
+     * @param endIndex   끝 인덱스
+     * @return JobDetail 스트림 (파싱/통신 오류는 ApiClientException으로 전달)
+     */
+    public Flux<JobDetail> streamJobDetails(int startIndex, int endIndex) {
+        return Flux.using(
+                        () -> openBody(startIndex, endIndex),
+                        SeoulJobXmlParser::streamJobDetails,
+                        SeoulJobApiClient::closeQuietly)
+                // InputStream 읽기는 블로킹이므로 boundedElastic 스케줄러에서 실행
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private SeoulJobInfo readJobInfo(int startIndex, int endIndex) throws IOException {
+        try (InputStream body = openBody(startIndex, endIndex)) {
+            return SeoulJobXmlParser.parseJobInfo(body);
+        }
+    }
+
+    /**
+     * API를 호출하고 응답 본문을 DataBuffer 스트림 기반의 InputStream으로 엽니다.
+     */
+    private InputStream openBody(int startIndex, int endIndex) {
+
         String path = API_PATH
                 .replace("{API_KEY}", API_KEY)
                 .replace("{start}", String.valueOf(startIndex))
                 .replace("{end}", String.valueOf(endIndex));
 
-        // WebClient를 사용한 동기/블로킹 방식 호출 (RestTemplate 대체)
-        Mono<String> xmlResponseMono = webClient.get()
+        Flux<DataBuffer> body = webClient.get()
                 .uri(path)
                 .retrieve()
                 // HTTP 상태 코드에 따른 명시적인 에러 처리
@@ -72,41 +119,22 @@ public class SeoulJobApiClient {
                         clientResponse -> {
                             // 에러 응답 코드를 확인
                             String errorMessage = String.format("API 서버 응답 오류: HTTP %s", clientResponse.statusCode());
-                            System.err.println(errorMessage);
+                            log.error(errorMessage);
                             // APIClientException을 던져 상위 계층에서 잡도록 함
                             return Mono.error(
                                     new ApiClientException(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR, errorMessage,
                                             null));
                         })
-                .bodyToMono(String.class)
-                // 재시도 로직 추가: 3번까지 재시도
-                .retryWhen(reactor.util.retry.Retry.max(3));
-
-        try {
-            // Mono를 블로킹 방식으로 기다려 결과를 가져옴 (배치 처리 시 일반적)
-            String xmlResponse = xmlResponseMono.block();
+                .bodyToFlux(DataBuffer.class);
 
-            // 받은 XML 전문을 로그로 출력하여 구조를 확인
-            //log.error("--- API 응답 XML 전문 --- \n {}", xmlResponse);
-
-            if (xmlResponse == null || xmlResponse.isEmpty()) {
-                System.err.println("API 응답 XML이 NULL이거나 비어있습니다. API 키 또는 URL 확인 필요.");
-                return Optional.empty();
-            }
-
-            // JAXB 패키지를 jakarta.xml.bind로 변경
-            JAXBContext jaxbContext = JAXBContext.newInstance(SeoulJobInfo.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(xmlResponse);
-
-            return Optional.of((SeoulJobInfo) unmarshaller.unmarshal(reader));
+        // 구독자가 읽은 만큼만 DataBuffer를 요청하고, 읽은 버퍼는 즉시 해제
+        return DataBufferUtils.subscriberInputStream(body, BODY_BUFFER_DEMAND);
+    }
 
-        } catch (JAXBException e) {
-            // JAXB 파싱 오류 발생 시 전역 ErrorCode 사용
-            throw new ApiClientException(ErrorCode.API_PARSING_ERROR, "서울일자리 XML 응답 파싱 실패", e);
-        } catch (Exception e) {
-            // 네트워크 등 기타 오류 발생 시 전역 ErrorCode 사용
-            throw new ApiClientException(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR, "서울일자리 API 호출 중 통신 오류 발생", e);
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
         }
     }
-}
\ No newline at end of file
+}
@@ -5,11 +5,16 @@ import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @XmlRootElement(name = "GetJobInfo")
 @XmlAccessorType(XmlAccessType.FIELD)
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE) // SeoulJobXmlParser에서 파싱 결과를 담기 위한 생성자
 public class SeoulJobInfo {
 
     @XmlElement(name = "list_total_count")
@@ -26,6 +31,8 @@ public class SeoulJobInfo {
 
     @XmlRootElement(name = "RESULT")
     @XmlAccessorType(XmlAccessType.FIELD)
+    @NoArgsConstructor
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
     public static class Result {
         @XmlElement(name = "CODE")
         private String code;
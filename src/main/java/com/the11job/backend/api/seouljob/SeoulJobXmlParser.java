@@ -0,0 +1,262 @@
+package com.the11job.backend.api.seouljob;
+
+import com.the11job.backend.api.exception.ApiClientException;
+import com.the11job.backend.api.seouljob.SeoulJobInfo.JobDetail;
+import com.the11job.backend.api.seouljob.SeoulJobInfo.Result;
+import com.the11job.backend.global.exception.ErrorCode;
+import jakarta.xml.bind.annotation.XmlElement;
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+
+/**
+ * 서울시 일자리 정보 API의 XML 응답을 StAX(이벤트 기반)로 읽는 파서
+ * <p>
+ * 응답 전문을 String이나 DOM으로 만들지 않고 row 요소 하나씩 JobDetail로 변환합니다. 요소 이름과 필드의 매핑은 JobDetail의 @XmlElement 정의를 클래스 로딩 시 한
+ * 번만 읽어 사용하므로 호출마다 JAXBContext를 만들 필요가 없습니다.
+ */
+final class SeoulJobXmlParser {
+
+    private static final String ROW = "row";
+    private static final String LIST_TOTAL_COUNT = "list_total_count";
+    private static final String RESULT = "RESULT";
+    private static final String RESULT_CODE = "CODE";
+    private static final String RESULT_MESSAGE = "MESSAGE";
+
+    // XMLInputFactory는 설정 후 재사용하되, Reader 생성은 동기화하여 안전하게 처리
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    // XML 요소 이름 -> JobDetail 필드 (예: "JO_REQST_NO" -> joRequestNo)
+    private static final Map<String, Field> JOB_DETAIL_FIELDS = mapJobDetailFields();
+
+    private final XMLStreamReader reader;
+
+    private String listTotalCount;
+    private Result result;
+
+    private SeoulJobXmlParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 응답 전체를 읽어 SeoulJobInfo로 반환합니다. (list_total_count, RESULT, row 목록)
+     */
+    static SeoulJobInfo parseJobInfo(InputStream inputStream) {
+        SeoulJobXmlParser parser = open(inputStream);
+        try {
+            List<JobDetail> details = new ArrayList<>();
+            JobDetail detail;
+            while ((detail = parser.nextRow()) != null) {
+                details.add(detail);
+            }
+            return new SeoulJobInfo(parser.listTotalCount, parser.result, details);
+        } finally {
+            parser.close();
+        }
+    }
+
+    /**
+     * 응답의 row 요소를 하나씩 JobDetail로 방출합니다. 구독자가 요청한 만큼만 읽으므로 페이지 크기와 관계없이 메모리 사용량이 일정합니다.
+     */
+    static Flux<JobDetail> streamJobDetails(InputStream inputStream) {
+        return Flux.generate(
+                () -> open(inputStream),
+                (parser, sink) -> {
+                    try {
+                        JobDetail detail = parser.nextRow();
+                        if (detail == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(detail);
+                        }
+                    } catch (ApiClientException e) {
+                        sink.error(e);
+                    }
+                    return parser;
+                },
+                SeoulJobXmlParser::close);
+    }
+
+    private static SeoulJobXmlParser open(InputStream inputStream) {
+        try {
+            XMLStreamReader reader;
+            synchronized (XML_INPUT_FACTORY) {
+                reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            }
+            return new SeoulJobXmlParser(reader);
+        } catch (XMLStreamException e) {
+            throw toApiClientException(e);
+        }
+    }
+
+    /**
+     * 다음 row 요소를 읽어 반환합니다. 그 사이에 나오는 list_total_count, RESULT 값은 함께 기록합니다.
+     *
+     * @return 다음 JobDetail, 문서 끝에 도달하면 null
+     */
+    private JobDetail nextRow() {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case ROW -> {
+                        return readRow();
+                    }
+                    case LIST_TOTAL_COUNT -> listTotalCount = reader.getElementText();
+                    case RESULT -> result = readResult();
+                    default -> {
+                        // 루트(GetJobInfo) 등 나머지 요소는 하위 요소로 계속 진행
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw toApiClientException(e);
+        }
+    }
+
+    private JobDetail readRow() throws XMLStreamException {
+        JobDetail detail = new JobDetail();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && ROW.equals(reader.getLocalName())) {
+                return detail;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            Field field = JOB_DETAIL_FIELDS.get(reader.getLocalName());
+            if (field == null) {
+                skipElement();
+                continue;
+            }
+            setField(field, detail, reader.getElementText());
+        }
+        throw new XMLStreamException("row 요소가 닫히기 전에 문서가 끝났습니다.");
+    }
+
+    private Result readResult() throws XMLStreamException {
+        String code = null;
+        String message = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && RESULT.equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case RESULT_CODE -> code = reader.getElementText();
+                case RESULT_MESSAGE -> message = reader.getElementText();
+                default -> skipElement();
+            }
+        }
+        return new Result(code, message);
+    }
+
+    /**
+     * 현재 START_ELEMENT부터 짝이 되는 END_ELEMENT까지 건너뜁니다.
+     */
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+
+    private static void setField(Field field, JobDetail detail, String value) {
+        try {
+            // 빈 요소는 JAXB의 nillable 처리와 동일하게 빈 문자열 대신 null로 둡니다.
+            field.set(detail, value.isEmpty() ? null : value);
+        } catch (IllegalAccessException e) {
+            throw new ApiClientException(ErrorCode.API_PARSING_ERROR, "JobDetail 필드 설정 실패: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * XML 읽기 중 발생한 예외를 원인에 맞는 ApiClientException으로 변환합니다.
+     * <p>
+     * 응답 본문은 네트워크에서 받는 대로 읽으므로, 연결 끊김·타임아웃 같은 통신 오류도 IOException을 감싼 XMLStreamException으로 올라옵니다. 원인을 따라가
+     * 통신 오류는 API_EXTERNAL_COMMUNICATION_ERROR(재시도 대상)로, 잘못된 XML·문자 인코딩만 API_PARSING_ERROR로 분류합니다.
+     */
+    private static ApiClientException toApiClientException(Throwable e) {
+        // 통신 단계에서 발생한 ApiClientException이 InputStream을 거쳐 (IOException 등으로) 감싸져 올라온 경우 원래 예외를 그대로 전달
+        for (Throwable cause = e; cause != null; cause = nextCause(cause)) {
+            if (cause instanceof ApiClientException apiClientException) {
+                return apiClientException;
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = nextCause(cause)) {
+            // 잘못된 바이트 시퀀스(인코딩 오류)는 IOException이지만 응답 자체의 문제
+            if (cause instanceof CharConversionException) {
+                break;
+            }
+            if (cause instanceof IOException || cause instanceof WebClientException
+                    || cause instanceof TimeoutException) {
+                return new ApiClientException(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR,
+                        "서울일자리 API 응답 수신 중 통신 오류 발생", e);
+            }
+        }
+        return new ApiClientException(ErrorCode.API_PARSING_ERROR, "서울일자리 XML 응답 파싱 실패", e);
+    }
+
+    private static Throwable nextCause(Throwable e) {
+        // StAX 구현에 따라 원인이 getCause() 대신 getNestedException()에만 담기는 경우가 있음
+        if (e.getCause() == null && e instanceof XMLStreamException xmlStreamException
+                && xmlStreamException.getNestedException() != e) {
+            return xmlStreamException.getNestedException();
+        }
+        return e.getCause();
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // 하나의 텍스트 노드가 여러 이벤트로 나뉘지 않도록 설정
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static Map<String, Field> mapJobDetailFields() {
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : JobDetail.class.getDeclaredFields()) {
+            XmlElement element = field.getAnnotation(XmlElement.class);
+            if (element == null) {
+                continue;
+            }
+            field.setAccessible(true);
+            fields.put(element.name(), field);
+        }
+        return Map.copyOf(fields);
+    }
+}
@@ -0,0 +1,17 @@
+package com.the11job.backend.auth.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 로그인한 사용자(User)를 주입합니다.
+ * <p>
+ * 토큰의 사용자 ID로 만든 지연 로딩 참조(프록시)를 주입하므로, 연관관계 설정이나 ID 비교만 하는 경우 사용자 조회 쿼리가 실행되지 않습니다. 이름, 비밀번호처럼
+ * 엔티티 상태가 필요한 시점에 한 번 조회됩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
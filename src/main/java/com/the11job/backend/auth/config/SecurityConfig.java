@@ -4,7 +4,8 @@ import com.the11job.backend.global.filter.JWTFilter;
 import com.the11job.backend.global.filter.LoginFilter;
 import com.the11job.backend.global.filter.LogoutFilter;
 import com.the11job.backend.global.util.JWTUtil;
-import com.the11job.backend.user.repository.RefreshRepository;
+import com.the11job.backend.global.util.VerifiedTokenCache;
+import com.the11job.backend.user.repository.RefreshTokenStore;
 import com.the11job.backend.user.repository.UserRepository;
 import java.util.List;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -27,17 +28,20 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public SecurityConfig(AuthenticationConfiguration authenticationConfiguration,
                           JWTUtil jwtUtil,
-                          RefreshRepository refreshRepository,
-                          UserRepository userRepository) {
+                          RefreshTokenStore refreshTokenStore,
+                          UserRepository userRepository,
+                          VerifiedTokenCache verifiedTokenCache) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.userRepository = userRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Bean
@@ -93,6 +97,7 @@ public class SecurityConfig {
                 //.requestMatchers("/api/jobs/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll()
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                 .anyRequest().authenticated()
         );
@@ -101,17 +106,17 @@ public class SecurityConfig {
 
         // 1. JWT 검증 필터: 가장 기본적인 인증 필터보다 먼저 실행되어야 모든 요청을 가로채 토큰을 검증할 수 있다.
         http
-                .addFilterBefore(new JWTFilter(jwtUtil, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JWTFilter(verifiedTokenCache, userRepository), UsernamePasswordAuthenticationFilter.class);
 
         // 2. 로그인 필터: 기존의 UsernamePasswordAuthenticationFilter 위치를 우리가 만든 LoginFilter로 대체한다.
         http
                 .addFilterAt(
-                        new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshRepository),
+                        new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenStore),
                         UsernamePasswordAuthenticationFilter.class);
 
         // 3. 로그아웃 필터: 로그인 필터보다는 뒤, JWT 필터와 비슷한 위치에서 작동하도록 설정한다.
         http
-                .addFilterBefore(new LogoutFilter(jwtUtil, refreshRepository), LoginFilter.class);
+                .addFilterBefore(new LogoutFilter(jwtUtil, refreshTokenStore, verifiedTokenCache), LoginFilter.class);
         return http.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.the11job.backend.auth.resolver;
+
+import com.the11job.backend.auth.annotation.LoginUser;
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.user.dto.AuthUser;
+import com.the11job.backend.user.entity.User;
+import com.the11job.backend.user.exception.UserException;
+import com.the11job.backend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link LoginUser} 파라미터를 SecurityContext의 AuthUser로부터 User 참조로 변환합니다. 사용자가 없으면(탈퇴 등) USER_NOT_EXIST 예외를 던집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthUser authUser)) {
+            // 인증되지 않은 요청 (@AuthenticationPrincipal과 같이 null 전달, 컨트롤러에서 처리)
+            return null;
+        }
+
+        // 토큰 발급 후 탈퇴한 사용자: 지연 로딩 참조는 첫 조회 시 EntityNotFoundException(500)이 나므로 여기서 확인
+        // (기본 키 존재 여부만 확인하고 엔티티는 읽지 않음)
+        if (!userRepository.existsById(authUser.getId())) {
+            throw new UserException(ErrorCode.USER_NOT_EXIST);
+        }
+
+        // ID만 가진 지연 로딩 참조 반환 (엔티티 상태가 필요할 때 조회)
+        return userRepository.getReferenceById(authUser.getId());
+    }
+}
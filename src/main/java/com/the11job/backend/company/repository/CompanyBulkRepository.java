@@ -0,0 +1,84 @@
+package com.the11job.backend.company.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채용 공고 배치 적재 시 기업명 -> ID 해석에 사용하는 JDBC Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyBulkRepository {
+
+    private static final String SELECT_ALL = "SELECT id, name FROM companies";
+
+    private static final String SELECT_IDS_BY_NAME = "SELECT id, name FROM companies WHERE name IN (:names)";
+
+    private static final String SELECT_ID_BY_NAME = "SELECT id FROM companies WHERE name = :name LIMIT 1";
+
+    // 같은 기업명(DB collation 기준)이 이미 있으면 건너뜀. 배치 중 한 건이 중복이어도 나머지 INSERT는 그대로 진행
+    private static final String INSERT_COMPANY =
+            "INSERT INTO companies (name, created_date, updated_date) VALUES (:name, :now, :now) "
+                    + "ON DUPLICATE KEY UPDATE id = id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * companies 테이블 전체를 읽어 (기업명, ID)를 차례로 전달합니다. 결과를 한 번에 메모리에 올리지 않습니다.
+     */
+    public void forEachIdByName(BiConsumer<String, Long> consumer) {
+        jdbcTemplate.query(SELECT_ALL, Map.of(),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getString("name"), rs.getLong("id")));
+    }
+
+    /**
+     * 기업명 목록에 해당하는 Company ID를 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @return DB에 저장된 기업명 -> companies.id (존재하는 기업만 포함). DB는 대소문자/악센트를 구분하지 않고 비교하므로, 저장된 기업명은 요청한 기업명과 표기가 다를 수
+     * 있습니다.
+     */
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        jdbcTemplate.query(SELECT_IDS_BY_NAME, Map.of("names", names),
+                (RowCallbackHandler) rs -> ids.put(rs.getString("name"), rs.getLong("id")));
+        return ids;
+    }
+
+    /**
+     * 기업명 하나를 DB의 비교 규칙(collation) 그대로 조회합니다.
+     */
+    public Optional<Long> findIdByName(String name) {
+        return jdbcTemplate.query(SELECT_ID_BY_NAME, Map.of("name", name),
+                (rs, rowNum) -> rs.getLong("id")).stream().findFirst();
+    }
+
+    /**
+     * 신규 기업을 배치 INSERT 합니다. 이미 있는 기업명(다른 적재 작업이 먼저 등록했거나 대소문자만 다른 경우)은 건너뜁니다.
+     */
+    public void insertAll(Collection<String> names, LocalDateTime now) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = names.stream()
+                .map(name -> new MapSqlParameterSource()
+                        .addValue("name", name)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_COMPANY, params);
+    }
+}
@@ -0,0 +1,168 @@
+package com.the11job.backend.company.service;
+
+import com.the11job.backend.company.exception.CompanyException;
+import com.the11job.backend.company.repository.CompanyBulkRepository;
+import com.the11job.backend.global.exception.ErrorCode;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채용 공고 적재 시 기업명 -> Company ID를 해석하는 메모리 캐시
+ * <p>
+ * 배치 실행마다 companies 테이블을 한 번 읽어 채워 두고, 캐시에 없는 기업만 모아서 조회/배치 INSERT 합니다. 여러 청크가 동시에 적재되어도 안전하도록
+ * ConcurrentHashMap을 사용하며, 상한(max-size)을 넘는 기업은 캐시하지 않고 DB에서 해석합니다.
+ * <p>
+ * companies.name은 MySQL에서 대소문자/악센트를 구분하지 않고 비교되므로("ABC" = "abc"), 캐시와 조회 결과 매칭도 같은 방식의 비교 키(nameKey)를 사용합니다. 비교
+ * 키가 DB 규칙과 다른 드문 경우(예: ß와 ss)는 DB에 한 건씩 다시 물어 해석합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyResolutionCache {
+
+    private final CompanyBulkRepository companyBulkRepository;
+
+    // 비교 키에서 제거하는 결합 문자 (악센트 등 발음 구별 기호)
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // 비교 키(nameKey) -> companies.id
+    private final Map<String, Long> idsByKey = new ConcurrentHashMap<>();
+
+    // 캐시에 보관할 최대 기업 수
+    @Value("${job.ingest.company-cache.max-size:100000}")
+    private int maxSize;
+
+    /**
+     * companies 테이블 전체를 읽어 캐시를 다시 채웁니다. 배치 실행 시작 시 한 번 호출합니다.
+     */
+    public void warmUp() {
+        idsByKey.clear();
+        companyBulkRepository.forEachIdByName(this::cache);
+        log.info("Company 캐시 적재 완료: {}건 (최대 {}건)", idsByKey.size(), maxSize);
+    }
+
+    /**
+     * 기업명 목록을 Company ID로 해석합니다. 캐시에 없는 기업명만 DB에서 조회하고, DB에도 없으면 한 번에 생성합니다.
+     *
+     * @param names 정규화된 기업명 목록
+     * @return 기업명 -> companies.id
+     */
+    public Map<String, Long> resolveAll(Collection<String> names) {
+        Map<String, Long> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            Long id = idsByKey.get(nameKey(name));
+            if (id == null) {
+                misses.add(name);
+            } else {
+                resolved.put(name, id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            resolved.putAll(loadOrCreate(misses));
+        }
+        return resolved;
+    }
+
+    /**
+     * 캐시에 없는 기업을 DB에서 조회하고, 없는 기업은 배치 INSERT 후 ID를 다시 조회합니다.
+     *
+     * @return 요청한 기업명 -> companies.id
+     */
+    private Map<String, Long> loadOrCreate(List<String> names) {
+        Map<String, Long> found = matchByKey(names, companyBulkRepository.findIdsByNames(names));
+        List<String> missing = missingNames(names, found);
+
+        if (!missing.isEmpty()) {
+            // 이미 있는 기업명(동시 등록, 대소문자만 다른 표기 등)은 INSERT에서 건너뛰고 아래 재조회로 해석
+            companyBulkRepository.insertAll(missing, LocalDateTime.now());
+            found.putAll(matchByKey(missing, companyBulkRepository.findIdsByNames(missing)));
+
+            // 비교 키가 DB 비교 규칙과 달라 매칭하지 못한 기업명은 DB에 한 건씩 조회
+            for (String name : missingNames(missing, found)) {
+                companyBulkRepository.findIdByName(name).ifPresent(id -> found.put(name, id));
+            }
+
+            List<String> unresolved = missingNames(missing, found);
+            if (!unresolved.isEmpty()) {
+                throw new CompanyException(ErrorCode.NOT_FOUND_COMPANY,
+                        "Company 등록 후에도 ID를 찾을 수 없습니다. (요청 " + missing.size() + "건, 미해석 " + unresolved.size()
+                                + "건)");
+            }
+            log.info("Company 해석: 신규 등록 대상 {}건", missing.size());
+        }
+
+        cacheAfterCommit(found);
+        return found;
+    }
+
+    /**
+     * DB에 저장된 기업명으로 조회한 결과를 요청한 기업명에 비교 키로 연결합니다.
+     */
+    private Map<String, Long> matchByKey(List<String> names, Map<String, Long> idsByStoredName) {
+        Map<String, Long> idsByStoredKey = new HashMap<>();
+        idsByStoredName.forEach((storedName, id) -> idsByStoredKey.put(nameKey(storedName), id));
+
+        Map<String, Long> matched = new HashMap<>();
+        for (String name : names) {
+            Long id = idsByStoredKey.get(nameKey(name));
+            if (id != null) {
+                matched.put(name, id);
+            }
+        }
+        return matched;
+    }
+
+    private List<String> missingNames(List<String> names, Map<String, Long> found) {
+        return names.stream()
+                .filter(name -> !found.containsKey(name))
+                .toList();
+    }
+
+    /**
+     * MySQL 기본 collation(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트를 구분하지 않는 비교 키. 전각 문자 등 호환 문자도 같은 문자로 봅니다.
+     */
+    static String nameKey(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 새로 만든 Company ID도 사라지므로, 커밋된 뒤에만 캐시에 반영합니다.
+     */
+    private void cacheAfterCommit(Map<String, Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::cache);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(CompanyResolutionCache.this::cache);
+            }
+        });
+    }
+
+    private void cache(String name, Long id) {
+        if (idsByKey.size() < maxSize) {
+            idsByKey.put(nameKey(name), id);
+        }
+    }
+}
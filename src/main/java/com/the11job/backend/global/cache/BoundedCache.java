@@ -0,0 +1,79 @@
+package com.the11job.backend.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 최대 크기와 만료 시간이 있는 간단한 메모리 캐시 (LRU)
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 저장 후 ttl이 지난 항목은 조회 시 제거합니다. 캐시 규모가 작고 접근 빈도가 높은 조회 결과를 서버 메모리에
+ * 보관하는 용도로 사용합니다.
+ *
+ * @param <K> 키 타입 (equals/hashCode 구현 필요)
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 만든 값을 저장 후 반환합니다. loader는 잠금 밖에서 실행되므로 같은 키를 동시에 여러 번 계산할 수 있습니다.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        V value = loader.get();
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -28,6 +28,9 @@ public enum ErrorCode {
 
     // ---------------------- 3. Job 도메인 오류 (J-Codes) ----------------------
     NOT_FOUND_JOB(HttpStatus.NOT_FOUND, "J404", "요청하신 채용 공고 정보를 찾을 수 없습니다."),
+    INVALID_JOB_CURSOR(HttpStatus.BAD_REQUEST, "J400", "유효하지 않은 채용 공고 커서입니다."),
+    INVALID_JOB_SORT(HttpStatus.BAD_REQUEST, "J400_1", "지원하지 않는 채용 공고 정렬 조건입니다."),
+    JOB_BATCH_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "J400_2", "한 번에 조회할 수 있는 채용 공고 수를 초과했습니다."),
 
     // ---------------------- 4. Company 도메인 오류 (C-Codes) ----------------------
     NOT_FOUND_COMPANY(HttpStatus.NOT_FOUND, "C404", "요청하신 기업 정보를 찾을 수 없습니다."),
@@ -51,6 +54,8 @@ public enum ErrorCode {
     USER_NOT_EXIST(HttpStatus.NOT_FOUND, "U404_1", "사용자가 존재하지 않습니다."),
     USER_INVALID_ID_AND_PASSWORD(HttpStatus.UNAUTHORIZED, "U401_1", "아이디나 비밀번호가 다릅니다."),
     USER_WRONG_PASSWORD(HttpStatus.UNAUTHORIZED, "U401_2", "비밀번호가 일치하지 않습니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "U401_3", "유효하지 않은 refresh 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "U401_4", "이미 사용된 refresh 토큰입니다. 다시 로그인해주세요."),
     USER_FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "U403_2", "이 리소스에 접근할 권한이 없습니다.");
 
 
@@ -1,7 +1,9 @@
 package com.the11job.backend.global.filter;
 
 import com.the11job.backend.global.exception.ErrorCode;
-import com.the11job.backend.global.util.JWTUtil;
+import com.the11job.backend.global.util.VerifiedToken;
+import com.the11job.backend.global.util.VerifiedTokenCache;
+import com.the11job.backend.user.dto.AuthUser;
 import com.the11job.backend.user.entity.User;
 import com.the11job.backend.user.exception.UserException;
 import com.the11job.backend.user.repository.UserRepository;
@@ -18,14 +20,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserRepository userRepository;
 
-    public JWTFilter(JWTUtil jwtUtil, UserRepository userRepository) {
-        this.jwtUtil = jwtUtil;
+    public JWTFilter(VerifiedTokenCache verifiedTokenCache, UserRepository userRepository) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.userRepository = userRepository;
     }
 
+    // 재발급 요청은 만료된 access 토큰이 함께 와도 refresh 토큰으로 처리하므로 검증하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "/api/reissue".equals(request.getRequestURI());
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -42,26 +50,47 @@ public class JWTFilter extends OncePerRequestFilter {
         // 3. "Bearer " 접두사 (7글자)를 제거하고 토큰 본체만 추출
         String accessToken = authorizationHeader.substring(7);
 
+        // 4. 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 꺼냄 (캐시를 켜면 반복되는 토큰은 검증 생략)
+        VerifiedToken verifiedToken;
         try {
-            jwtUtil.isExpired(accessToken);
+            verifiedToken = verifiedTokenCache.verify(accessToken);
         } catch (ExpiredJwtException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().print("access token expired");
             return;
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.getWriter().print("invalid access token");
+            return;
         }
 
-        String email = jwtUtil.getEmail(accessToken);
+        // refresh 토큰을 access 토큰으로 사용할 수 없음
+        if (!verifiedToken.isAccessToken()) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.getWriter().print("invalid access token");
+            return;
+        }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_EXIST)); // 4. DB에서 User 객체를 찾음
+        // 5. 검증된 토큰의 클레임으로 Principal(AuthUser)을 만듦 (사용자 조회 없음)
+        AuthUser authUser = toAuthUser(verifiedToken);
 
-        // Principal 자리에 'User' 객체 자체를 넣습니다.
         Authentication authToken = new UsernamePasswordAuthenticationToken(
-                user, null, user.getAuthorities()
+                authUser, null, authUser.getAuthorities()
         );
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private AuthUser toAuthUser(VerifiedToken verifiedToken) {
+        if (verifiedToken.userId() != null) {
+            return new AuthUser(verifiedToken.userId(), verifiedToken.email(), verifiedToken.role());
+        }
+
+        // 사용자 ID가 없는 이전 형식의 토큰은 한 번 조회하여 처리 (만료되면 더 이상 사용되지 않음)
+        User user = userRepository.findByEmail(verifiedToken.email())
+                .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_EXIST));
+        return AuthUser.from(user);
+    }
+}
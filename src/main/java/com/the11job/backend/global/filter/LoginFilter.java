@@ -1,11 +1,11 @@
 package com.the11job.backend.global.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.the11job.backend.global.entity.RefreshEntity;
 import com.the11job.backend.global.util.JWTUtil;
 import com.the11job.backend.user.dto.LoginRequest;
 import com.the11job.backend.user.dto.LoginResponse;
-import com.the11job.backend.user.repository.RefreshRepository;
+import com.the11job.backend.user.entity.User;
+import com.the11job.backend.user.repository.RefreshTokenStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,19 +22,19 @@ import org.springframework.util.StreamUtils;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Date;
+import java.time.Duration;
 import java.util.Iterator;
 
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, RefreshRepository refreshRepository) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     @Override
@@ -86,12 +86,15 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             }
         }
 
+        // 토큰에 사용자 ID를 담아 이후 요청에서 사용자 조회 없이 인증 (JWTFilter)
+        Long userId = (authentication.getPrincipal() instanceof User user) ? user.getId() : null;
+
         // 토큰 생성
-        String access = jwtUtil.createJwt("access", username, role, 86400000L); // 생명주기 10분(600000L)
-        String refresh = jwtUtil.createJwt("refresh", username, role, 86400000L); // 생명주기 24시간
+        String access = jwtUtil.createJwt("access", userId, username, role, JWTUtil.ACCESS_TOKEN_EXPIRED_MS); // 생명주기 10분
+        String refresh = jwtUtil.createJwt("refresh", userId, username, role, JWTUtil.REFRESH_TOKEN_EXPIRED_MS); // 생명주기 24시간
 
-        // Refresh 토큰 저장 - DB에 refresh 토큰이 쌓이는 문제 발생, 주기적으로 스케줄링 필요
-        addRefreshEntity(username, refresh, 86400000L);
+        // Refresh 토큰 저장 - Redis TTL로 만료된 토큰은 자동 삭제
+        refreshTokenStore.save(username, refresh, Duration.ofMillis(JWTUtil.REFRESH_TOKEN_EXPIRED_MS));
 
         // LoginResponse 객체 생성
         LoginResponse loginResponse = new LoginResponse(access, refresh);
@@ -112,15 +115,4 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         // 로그인 실패 시 401 응답 코드 반환
         response.setStatus(401);
     }
-
-    private void addRefreshEntity(String username, String refresh, Long expiredMs) {
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        RefreshEntity refreshEntity = new RefreshEntity();
-        refreshEntity.setUsername(username);
-        refreshEntity.setRefresh(refresh);
-        refreshEntity.setExpiration(date.toString());
-
-        refreshRepository.save(refreshEntity);
-    }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.the11job.backend.global.filter;
 
 import com.the11job.backend.global.util.JWTUtil;
-import com.the11job.backend.user.repository.RefreshRepository;
+import com.the11job.backend.global.util.VerifiedToken;
+import com.the11job.backend.global.util.VerifiedTokenCache;
+import com.the11job.backend.user.repository.RefreshTokenStore;
 import lombok.extern.slf4j.Slf4j;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.ServletException;
@@ -20,12 +22,14 @@ import java.io.IOException;
 public class LogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public LogoutFilter(JWTUtil jwtUtil, RefreshRepository refreshRepository) {
+    public LogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore, VerifiedTokenCache verifiedTokenCache) {
 
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -68,30 +72,35 @@ public class LogoutFilter extends GenericFilterBean {
             return;
         }
 
-        //expired check
+        //서명/만료 검증 (한 번만 파싱) 및 refresh 토큰인지 확인
+        VerifiedToken verifiedToken;
         try {
-            jwtUtil.isExpired(refresh);
-        } catch (ExpiredJwtException e) {
+            verifiedToken = jwtUtil.verify(refresh);
+        } catch (ExpiredJwtException | IllegalArgumentException e) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
+        if (!verifiedToken.isCategory(VerifiedToken.REFRESH)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
 
-
-
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        //로그아웃 진행
+        //Refresh 토큰 저장소에서 제거 (저장되어 있지 않은 토큰이면 실패)
+        if (!refreshTokenStore.delete(verifiedToken.email(), refresh)) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        //로그아웃 진행
-        //Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
+        //함께 전달된 access 토큰의 검증 캐시 제거
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            verifiedTokenCache.invalidate(authorizationHeader.substring(7));
+        }
 
         //Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
@@ -2,10 +2,15 @@ package com.the11job.backend.global.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,21 +20,44 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JWTUtil {
 
+    // access 토큰 생명주기 10분 (만료되면 refresh 토큰으로 재발급)
+    public static final long ACCESS_TOKEN_EXPIRED_MS = 600000L;
+    // refresh 토큰 생명주기 24시간
+    public static final long REFRESH_TOKEN_EXPIRED_MS = 86400000L;
+
     private final SecretKey secretKey;
 
+    // 서명 키가 설정된 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
+
+    /**
+     * 토큰을 한 번 파싱하여 서명과 만료 시간을 검증하고, 클레임을 담은 VerifiedToken을 반환합니다.
+     *
+     * @throws ExpiredJwtException      만료된 토큰
+     * @throws IllegalArgumentException 서명이 올바르지 않거나 형식이 잘못된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = getClaims(token);
+        return new VerifiedToken(
+                claims.get("category", String.class),
+                claims.get("userId", Long.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration());
     }
 
     // getClaims는 서명 검증을 통과한 토큰만 처리하고, 오류 발생 시 명확하게 던지도록
     private Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (io.jsonwebtoken.SignatureException e) {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (io.jsonwebtoken.security.SignatureException e) {
             log.error("JWT signature validation failed: {}", e.getMessage());
             throw new IllegalArgumentException("Invalid JWT Signature");
         } catch (ExpiredJwtException e) {
@@ -42,39 +70,47 @@ public class JWTUtil {
     }
 
     public String getEmail(String token) {
-        return getClaims(token).get("email", String.class); // 키 이름을 email로 명확히
+        return verify(token).email(); // 키 이름을 email로 명확히
+    }
+
+    /**
+     * 토큰의 사용자 ID. 사용자 ID를 담기 전에 발급된 토큰이면 null
+     */
+    public Long getUserId(String token) {
+        return verify(token).userId();
     }
 
     public String getRole(String token) {
-        return getClaims(token).get("role", String.class);
+        return verify(token).role();
     }
 
     public Boolean isExpired(String token) {
         try {
-            // 만료 체크 시 Jwts.parserBuilder()가 만료 예외를 던지도록 설정하지 않거나
-            // 별도의 파서를 사용하여 예외가 발생하면 true를 반환하는 방식으로 변경합니다.
-
-            // 현재 로직을 유지하면서 만료 예외를 포착하는 방법 (권장):
-            // Jwts.parserBuilder()가 만료된 토큰에 대해 ExpiredJwtException을 던지도록 허용
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-
-            return expiration.before(new Date());
+            // 파서가 만료된 토큰에 대해 ExpiredJwtException을 던지므로, 예외가 없으면 만료되지 않은 토큰
+            return verify(token).expiration().before(new Date());
         } catch (ExpiredJwtException e) {
             return true; // 만료됨
-        } catch (Exception e) {
-            // 서명 오류나 다른 파싱 오류는 false를 반환하거나 다시 던져 필터가 처리하도록 합니다.
-            log.error("JWT isExpired check failed with other exception: {}", e.getMessage());
-            throw new IllegalArgumentException("Invalid JWT token", e);
         }
     }
 
-    public String createJwt(String category, String email, String role, Long expiredMs) {
+    /**
+     * 토큰 원문 대신 Redis 저장소 키로 사용하는 토큰의 SHA-256 (16진수)
+     */
+    public static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public String createJwt(String category, Long userId, String email, String role, Long expiredMs) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰이 서로 다르도록 (refresh 토큰 저장소 키)
+                .claim("category", category)
+                .claim("userId", userId)
                 .claim("email", email)
                 .claim("role", role)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
@@ -0,0 +1,49 @@
+package com.the11job.backend.global.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 2-gram(bigram) 토크나이저
+ * <p>
+ * 한국어는 띄어쓰기와 조사 때문에 단어 단위 색인이 잘 맞지 않으므로, 공백과 문장 부호를 제거한 뒤 연속된 두 글자씩 잘라 토큰으로 사용합니다. 색인과 검색어에 같은 규칙을
+ * 적용하므로 "삼성 전자"와 "삼성전자"가 같은 토큰을 가집니다.
+ */
+public final class NgramTokenizer {
+
+    // 토큰 길이 (글자 수)
+    public static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 정규화한 뒤 중복 없는 bigram 목록으로 나눕니다.
+     *
+     * @return 정규화 후 두 글자 미만이면 빈 Set
+     */
+    public static Set<String> bigrams(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int[] codePoints = normalize(text).codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return tokens;
+    }
+
+    /**
+     * 소문자로 바꾸고 글자와 숫자만 남깁니다.
+     */
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+}
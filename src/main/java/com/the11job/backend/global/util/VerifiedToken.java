@@ -0,0 +1,32 @@
+package com.the11job.backend.global.util;
+
+import java.util.Date;
+
+/**
+ * 서명과 만료 시간 검증을 통과한 JWT의 클레임 (불변)
+ *
+ * @param category   토큰 종류 ("access" / "refresh", 종류를 담기 전에 발급된 토큰이면 null)
+ * @param userId     사용자 ID (사용자 ID를 담기 전에 발급된 토큰이면 null)
+ * @param email      사용자 이메일
+ * @param role       사용자 권한
+ * @param expiration 만료 시각
+ */
+public record VerifiedToken(String category, Long userId, String email, String role, Date expiration) {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    /**
+     * 지정한 종류의 토큰인지 확인합니다. 종류가 없는 이전 형식의 토큰은 어느 종류로도 보지 않습니다. (refresh 토큰 확인에 사용)
+     */
+    public boolean isCategory(String expected) {
+        return expected.equals(category);
+    }
+
+    /**
+     * access 토큰으로 사용할 수 있는지 확인합니다. 종류를 담기 전에 발급된 토큰(category 없음)은 만료될 때까지 access 토큰으로 허용합니다.
+     */
+    public boolean isAccessToken() {
+        return category == null || ACCESS.equals(category);
+    }
+}
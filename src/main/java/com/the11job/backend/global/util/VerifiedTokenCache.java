@@ -0,0 +1,105 @@
+package com.the11job.backend.global.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증을 마친 토큰의 클레임을 서버 메모리에 보관하는 캐시 (선택 사항, 기본 비활성)
+ * <p>
+ * 같은 access 토큰으로 반복되는 요청은 서명 검증 없이 토큰 문자열 조회만으로 처리합니다. 요청마다 거치는 경로이므로 전역 락 없이 ConcurrentHashMap을 사용하고,
+ * 키는 해시(SHA-256)를 따로 계산하지 않고 토큰 문자열을 그대로 씁니다. 항목은 캐시 ttl과 토큰 만료 시각 중 먼저 오는 시점까지만 사용하고, 로그아웃/비밀번호 변경 시
+ * 제거합니다. 캐시에서 제거해도 토큰 자체는 만료 전까지 서명 검증을 통과하므로, 이 캐시는 토큰 폐기 수단이 아닙니다.
+ * <p>
+ * 최대 크기에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 토큰은 저장하지 않고 매번 검증합니다. (LRU 순서를 유지하지 않음)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    // 가득 찬 상태에서 캐시 미스마다 전체 정리가 반복되지 않도록 정리 간격을 제한
+    private static final long SWEEP_INTERVAL_MS = 1_000L;
+
+    private final JWTUtil jwtUtil;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMs;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 다음 만료 항목 정리를 허용하는 시각
+    private volatile long nextSweepAt;
+
+    public VerifiedTokenCache(JWTUtil jwtUtil,
+                              @Value("${jwt.verified-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.verified-cache.ttl:PT5M}") Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMs = ttl.toMillis();
+    }
+
+    /**
+     * 캐시에 검증 결과가 있으면 반환하고, 없으면 JWTUtil로 검증한 뒤 저장합니다.
+     *
+     * @throws ExpiredJwtException      만료된 토큰
+     * @throws IllegalArgumentException 서명이 올바르지 않거나 형식이 잘못된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return jwtUtil.verify(token);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.verifiedToken();
+            }
+            // 만료되었으면 캐시에서 제거하고, 토큰이 만료되었다면 검증에서 만료 예외가 발생하도록 함
+            entries.remove(token, cached);
+        }
+
+        VerifiedToken verifiedToken = jwtUtil.verify(token);
+        if (hasRoom(now)) {
+            long expiresAt = Math.min(now + ttlMs, verifiedToken.expiration().getTime());
+            entries.put(token, new Entry(verifiedToken, expiresAt));
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * 토큰 하나의 검증 결과를 제거합니다. (로그아웃)
+     */
+    public void invalidate(String token) {
+        entries.remove(token);
+    }
+
+    /**
+     * 사용자의 모든 토큰 검증 결과를 제거합니다. (비밀번호 변경, 회원 탈퇴)
+     */
+    public void invalidateUser(String email) {
+        entries.values().removeIf(entry -> Objects.equals(entry.verifiedToken().email(), email));
+        log.debug("사용자 토큰 검증 캐시 제거: {}", email);
+    }
+
+    // 최대 크기에 도달했으면 만료된 항목을 정리한 뒤 저장할 공간이 있는지 확인 (동시 저장으로 최대 크기를 약간 넘을 수 있음)
+    private boolean hasRoom(long now) {
+        if (entries.size() < maxSize) {
+            return true;
+        }
+        if (now >= nextSweepAt) {
+            nextSweepAt = now + SWEEP_INTERVAL_MS;
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        return entries.size() < maxSize;
+    }
+
+    private record Entry(VerifiedToken verifiedToken, long expiresAt) {
+    }
+}
@@ -1,8 +1,13 @@
 package com.the11job.backend.job.controller;
 
+import com.the11job.backend.job.dto.JobBatchRequest;
+import com.the11job.backend.job.dto.JobFacetResponse;
 import com.the11job.backend.job.dto.JobFilterRequest;
 import com.the11job.backend.job.dto.JobResponse;
+import com.the11job.backend.job.dto.JobScrollResponse;
 import com.the11job.backend.job.service.JobService;
+import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,7 +16,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -29,7 +37,7 @@ public class JobController {
      * 채용 공고 목록 조회 및 필터링 API (전체 조회 역할까지 겸하며, 무한 스크롤 및 필터링을 지원합니다.)
      *
      * @param request  검색어, 근무지역, 지원자격 등의 필터링 조건
-     * @param pageable Spring Data JPA의 Pageable 객체 (page, size, sort 처리)
+     * @param pageable Spring Data JPA의 Pageable 객체 (page, size, sort 처리, sort는 registrationDate,desc(LATEST) 또는 registrationDate,asc(OLDEST)만 지원)
      * @return 필터링된 Job 목록 (페이지네이션 정보 포함)
      */
     @GetMapping // GET /api/v1/jobs?workLocation=서울&careerConditionName=신입&page=0&size=10
@@ -48,4 +56,53 @@ public class JobController {
         // 결과 반환
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    /**
+     * 채용 공고 무한 스크롤 API (커서 기반). OFFSET 대신 마지막 공고의 위치에서 이어서 읽으므로 스크롤이 깊어져도 응답 속도가 같고, 전체 개수를 계산하지 않습니다.
+     *
+     * @param request 검색어, 근무지역, 지원자격 등의 필터링 조건
+     * @param cursor  이전 응답의 nextCursor (첫 요청이면 생략)
+     * @param size    조회할 개수 (기본 10, 최대 100)
+     * @return 공고 목록, 다음 커서, 다음 공고 존재 여부
+     */
+    @GetMapping("/scroll") // GET /api/jobs/scroll?cursor=...&size=10&workLocation=서울
+    public ResponseEntity<JobScrollResponse> getJobScroll(
+            JobFilterRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("채용 공고 스크롤 요청: Request={}, cursor={}, size={}", request, cursor, size);
+
+        return ResponseEntity.ok(jobService.getJobsByCursor(request, cursor, size));
+    }
+
+    /**
+     * 채용 공고 필터 항목별 건수 API. 목록 조회와 같은 필터 조건으로, 항목 값마다 선택했을 때의 공고 수를 한 번에 반환합니다.
+     *
+     * @param request 검색어, 근무지역, 지원자격 등의 필터링 조건
+     * @return 지원 자격, 학력, 직무, 시/도, 시/군/구 값별 공고 수
+     */
+    @GetMapping("/facets") // GET /api/jobs/facets?workLocation=서울&careerConditionName=신입
+    public ResponseEntity<JobFacetResponse> getJobFacets(JobFilterRequest request) {
+
+        log.info("채용 공고 필터 항목 건수 요청: Request={}", request);
+
+        return ResponseEntity.ok(jobService.getFacets(request));
+    }
+
+    /**
+     * 여러 채용 공고 일괄 조회 API. 저장/관심 공고처럼 ID를 알고 있는 공고를 공고마다 호출하지 않고 한 번에 조회합니다.
+     *
+     * @param request 조회할 공고 ID / requestNo 목록 (합계 최대 300개)
+     * @return 요청 순서대로 정렬된 공고 목록 (존재하지 않는 공고는 제외)
+     */
+    @PostMapping("/batch") // POST /api/jobs/batch {"jobIds": [1, 2], "requestNos": ["K120..."]}
+    public ResponseEntity<List<JobResponse>> getJobsInBatch(@Valid @RequestBody JobBatchRequest request) {
+
+        log.info("채용 공고 일괄 조회 요청: jobIds={}건, requestNos={}건",
+                request.getJobIds() == null ? 0 : request.getJobIds().size(),
+                request.getRequestNos() == null ? 0 : request.getRequestNos().size());
+
+        return ResponseEntity.ok(jobService.getJobsByIdsOrRequestNos(request));
+    }
+}
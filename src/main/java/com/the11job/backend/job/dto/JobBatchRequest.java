@@ -0,0 +1,26 @@
+package com.the11job.backend.job.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 여러 채용 공고 일괄 조회 요청 DTO (저장/관심 공고 목록 화면용). 공고 ID와 requestNo를 섞어서 보낼 수 있습니다.
+ */
+@Getter
+@Setter
+public class JobBatchRequest {
+
+    // 한 번에 조회할 수 있는 최대 공고 수 (jobIds + requestNos)
+    public static final int MAX_SIZE = 300;
+
+    // 조회할 공고 ID 목록
+    @Size(max = MAX_SIZE, message = "공고 ID는 한 번에 300개까지 조회할 수 있습니다.")
+    private List<Long> jobIds = new ArrayList<>();
+
+    // 조회할 외부 공고 ID(JO_REQST_NO) 목록
+    @Size(max = MAX_SIZE, message = "requestNo는 한 번에 300개까지 조회할 수 있습니다.")
+    private List<String> requestNos = new ArrayList<>();
+}
@@ -0,0 +1,56 @@
+package com.the11job.backend.job.dto;
+
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.job.exception.JobException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채용 공고 무한 스크롤(keyset) 커서. 마지막으로 받은 공고의 (등록일, ID)를 담으며, 클라이언트에는 내용을 알 수 없는 문자열로 전달합니다.
+ *
+ * @param registrationDate 마지막 공고의 등록일 (등록일이 없는 공고이면 null)
+ * @param jobId            마지막 공고의 ID
+ */
+public record JobCursor(LocalDate registrationDate, Long jobId) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_DATE = "-";
+
+    public static JobCursor of(JobResponse lastJob) {
+        return new JobCursor(lastJob.getRegistrationDate(), lastJob.getJobId());
+    }
+
+    /**
+     * 커서를 URL에 그대로 쓸 수 있는 Base64(URL-safe) 문자열로 만듭니다.
+     */
+    public String encode() {
+        String date = registrationDate == null ? NULL_DATE : registrationDate.toString();
+        String raw = date + SEPARATOR + jobId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다.
+     *
+     * @throws JobException 형식이 올바르지 않은 커서인 경우
+     */
+    public static JobCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new JobException(ErrorCode.INVALID_JOB_CURSOR);
+            }
+
+            String date = raw.substring(0, separatorIndex);
+            LocalDate registrationDate = NULL_DATE.equals(date) ? null : LocalDate.parse(date);
+            long jobId = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new JobCursor(registrationDate, jobId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 실패(IllegalArgumentException), 숫자 변환 실패(NumberFormatException) 포함
+            throw new JobException(ErrorCode.INVALID_JOB_CURSOR);
+        }
+    }
+}
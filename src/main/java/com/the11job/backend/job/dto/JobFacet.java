@@ -0,0 +1,17 @@
+package com.the11job.backend.job.dto;
+
+/**
+ * 건수를 집계하는 채용 공고 필터 항목 (facet)
+ */
+public enum JobFacet {
+    // 지원 자격 (경력, 신입, 무관 등)
+    CAREER,
+    // 학력 조건
+    ACADEMIC,
+    // 직무 이름
+    JOB_CODE,
+    // 근무지 시/도 코드
+    SIDO,
+    // 근무지 시/군/구 이름
+    SIGUNGU
+}
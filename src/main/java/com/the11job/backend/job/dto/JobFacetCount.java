@@ -0,0 +1,11 @@
+package com.the11job.backend.job.dto;
+
+/**
+ * 필터 항목 값별 공고 수
+ *
+ * @param value 필터에 전달할 값 (시/도는 코드)
+ * @param label 화면 표시용 이름 (시/도는 정식 명칭, 나머지는 value와 같음)
+ * @param count 현재 필터 조건에서 이 값을 선택했을 때의 공고 수 (지원 자격은 함께 조회되는 '무관' 공고 포함)
+ */
+public record JobFacetCount(String value, String label, long count) {
+}
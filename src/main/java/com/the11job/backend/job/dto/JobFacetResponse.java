@@ -0,0 +1,24 @@
+package com.the11job.backend.job.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 채용 공고 필터 항목별 건수 응답 DTO
+ * <p>
+ * 각 항목의 건수는 그 항목 자신의 선택을 제외한 나머지 필터 조건으로 계산합니다. (예: 지원 자격을 '신입'으로 선택해도 '경력'을 선택했을 때의 건수를 함께 보여줌)
+ */
+@Getter
+@Builder
+public class JobFacetResponse {
+
+    // 현재 필터 조건 전체를 적용한 공고 수
+    private long totalCount;
+
+    private List<JobFacetCount> careerName;
+    private List<JobFacetCount> academicName;
+    private List<JobFacetCount> jobCodeName;
+    private List<JobFacetCount> sido;
+    private List<JobFacetCount> sigungu;
+}
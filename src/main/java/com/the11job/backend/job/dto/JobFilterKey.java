@@ -0,0 +1,72 @@
+package com.the11job.backend.job.dto;
+
+import java.util.Locale;
+
+/**
+ * JobFilterRequest를 정규화한 불변 필터 조건. 같은 결과를 내는 요청은 같은 키가 되도록 앞뒤 공백, 빈 값, 의미 없는 조건을 정리합니다.
+ * <p>
+ * 조회 쿼리와 캐시 키가 모두 이 값을 사용하므로, 캐시 키가 같으면 실행되는 쿼리도 항상 같습니다.
+ *
+ * @param sidoCode            근무지역 필터를 해석한 시/도 코드 (없으면 null)
+ * @param sigunguName         근무지역 필터를 해석한 시/군/구 이름 (없으면 null)
+ * @param workLocation        지역 사전으로 해석할 수 없는 근무지역 (주소 부분 일치로 검색, 없으면 null)
+ * @param careerConditionName 지원 자격 ('무관'이나 빈 값이면 null)
+ * @param searchKeyword       검색어 (없으면 null)
+ * @param searchType          검색 대상 COMPANY/TITLE/ALL (검색어가 없으면 null)
+ * @param includeClosed       마감 공고 포함 여부
+ */
+public record JobFilterKey(
+        String sidoCode,
+        String sigunguName,
+        String workLocation,
+        String careerConditionName,
+        String searchKeyword,
+        String searchType,
+        boolean includeClosed) {
+
+    // 지원 자격 '무관' (선택 시 필터를 적용하지 않음)
+    public static final String CAREER_IRRELEVANT = "무관";
+
+    private static final String SEARCH_TYPE_ALL = "ALL";
+
+    public static JobFilterKey of(JobFilterRequest request) {
+        String career = trimToNull(request.getCareerConditionName());
+        if (career != null && career.equalsIgnoreCase(CAREER_IRRELEVANT)) {
+            career = null;
+        }
+
+        String keyword = trimToNull(request.getSearchKeyword());
+        String searchType = null;
+        if (keyword != null) {
+            String type = trimToNull(request.getSearchType());
+            searchType = type == null ? SEARCH_TYPE_ALL : type.toUpperCase(Locale.ROOT);
+            if (!searchType.equals("COMPANY") && !searchType.equals("TITLE")) {
+                searchType = SEARCH_TYPE_ALL;
+            }
+        }
+
+        // 근무지역은 지역 사전으로 해석하여 "서울", "서울특별시", "11"이 같은 키가 되도록 함
+        String location = trimToNull(request.getWorkLocation());
+        WorkRegion region = location == null ? null : WorkRegion.resolve(location).orElse(null);
+        if (region != null) {
+            return new JobFilterKey(region.sidoCode(), region.sigunguName(), null, career, keyword, searchType,
+                    request.isIncludeClosed());
+        }
+        return new JobFilterKey(null, null, location, career, keyword, searchType, request.isIncludeClosed());
+    }
+
+    /**
+     * 게시 중 공고 전체 조회처럼 조건이 하나도 없는지 확인합니다.
+     */
+    public boolean isUnfiltered() {
+        return sidoCode == null && sigunguName == null && workLocation == null && careerConditionName == null && searchKeyword == null && !includeClosed;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -13,7 +13,7 @@ import lombok.Setter;
 public class JobFilterRequest {
 
     // 근무지역 필터링
-    private String workLocation; // 시/구/동 전체 주소 문자열
+    private String workLocation; // 시/도 코드나 이름("11", "서울"), 시/군/구("강남구"), 또는 주소 일부 문자열
 
     // 지원 자격 필터링 (경력, 신입, 무관 등)
     private String careerConditionName;
@@ -22,4 +22,7 @@ public class JobFilterRequest {
     private String searchKeyword; // 회사명, 직무명 등에 사용될 검색어
     private String searchType;    // 검색 대상 지정 (예: "COMPANY", "TITLE", "ALL")
 
+    // 마감(CLOSED) 공고 포함 여부 (기본값: 게시 중인 공고만 조회)
+    private boolean includeClosed;
+
 }
\ No newline at end of file
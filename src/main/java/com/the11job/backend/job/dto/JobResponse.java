@@ -1,17 +1,21 @@
 package com.the11job.backend.job.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import com.the11job.backend.job.entity.Job;
 import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
- * 채용 공고 목록 조회 시 사용되는 응답 DTO
+ * 채용 공고 목록 조회 시 사용되는 응답 DTO (목록 캐시에 JSON으로 저장되므로 역직렬화도 지원)
  */
 @Getter
-@Builder
 public class JobResponse {
 
+    // 기업 정보가 없는 공고의 기업명
+    public static final String UNKNOWN_COMPANY_NAME = "N/A";
+
     private Long jobId;
     private String requestNo;
     private String companyName; // Company 엔티티로부터 조회
@@ -24,12 +28,34 @@ public class JobResponse {
     private LocalDate expirationDate;
     private String detailUrl;
 
+    /**
+     * 목록 조회 쿼리가 엔티티 없이 필요한 컬럼만 바로 담는 생성자 (QJobResponse 생성)
+     */
+    @Builder
+    @Jacksonized
+    @QueryProjection
+    public JobResponse(Long jobId, String requestNo, String companyName, String title, String workAddress,
+                       String jobCodeName, String academicName, String careerName, LocalDate registrationDate,
+                       LocalDate expirationDate, String detailUrl) {
+        this.jobId = jobId;
+        this.requestNo = requestNo;
+        this.companyName = companyName;
+        this.title = title;
+        this.workAddress = workAddress;
+        this.jobCodeName = jobCodeName;
+        this.academicName = academicName;
+        this.careerName = careerName;
+        this.registrationDate = registrationDate;
+        this.expirationDate = expirationDate;
+        this.detailUrl = detailUrl;
+    }
+
     /**
      * Job 엔티티를 JobResponse DTO로 변환하는 정적 팩토리 메서드
      */
     public static JobResponse from(Job job) {
         // LAZY 로딩된 company 엔티티에서 companyName을 안전하게 추출
-        String companyName = (job.getCompany() != null) ? job.getCompany().getName() : "N/A";
+        String companyName = (job.getCompany() != null) ? job.getCompany().getName() : UNKNOWN_COMPANY_NAME;
 
         return JobResponse.builder()
                 .jobId(job.getId())
@@ -0,0 +1,20 @@
+package com.the11job.backend.job.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 채용 공고 무한 스크롤(커서 기반) 조회 응답 DTO. 전체 개수는 계산하지 않습니다.
+ */
+@Getter
+@Builder
+public class JobScrollResponse {
+
+    private List<JobResponse> content;
+
+    // 다음 요청에 그대로 전달할 커서 (다음 공고가 없으면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+}
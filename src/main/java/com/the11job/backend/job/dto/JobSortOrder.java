@@ -0,0 +1,84 @@
+package com.the11job.backend.job.dto;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.job.entity.QJob;
+import com.the11job.backend.job.exception.JobException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 채용 공고 목록에서 지원하는 정렬 순서
+ * <p>
+ * 정렬마다 (status, registration_date, id) 인덱스를 그대로 따라 읽을 수 있는 순서만 허용하고, OrderSpecifier는 처음 한 번만 만들어 재사용합니다. 목록에 없는
+ * 정렬을 요청하면 테이블 전체 정렬(filesort)이 일어나지 않도록 거부합니다.
+ */
+public enum JobSortOrder {
+    // 최신 등록순 (등록일 없는 공고는 마지막) - 기본값
+    LATEST("registrationDate", Sort.Direction.DESC,
+            Comparator.comparing(JobResponse::getRegistrationDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(JobResponse::getJobId, Comparator.reverseOrder()),
+            QJob.job.registrationDate.desc().nullsLast(), QJob.job.id.desc()),
+    // 오래된 등록순 (MySQL 오름차순과 같이 등록일 없는 공고가 먼저)
+    OLDEST("registrationDate", Sort.Direction.ASC,
+            Comparator.comparing(JobResponse::getRegistrationDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(JobResponse::getJobId),
+            QJob.job.registrationDate.asc(), QJob.job.id.asc());
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Comparator<JobResponse> comparator;
+    private final List<OrderSpecifier<?>> orderSpecifiers;
+
+    JobSortOrder(String property, Sort.Direction direction, Comparator<JobResponse> comparator,
+                 OrderSpecifier<?>... orderSpecifiers) {
+        this.property = property;
+        this.direction = direction;
+        this.comparator = comparator;
+        this.orderSpecifiers = List.of(orderSpecifiers);
+    }
+
+    public List<OrderSpecifier<?>> getOrderSpecifiers() {
+        return orderSpecifiers;
+    }
+
+    /**
+     * 따로 조회한 결과를 합칠 때 쿼리의 ORDER BY와 같은 순서로 정렬하는 Comparator
+     */
+    public Comparator<JobResponse> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * 이 정렬 순서를 Pageable에 담을 Sort로 변환합니다.
+     */
+    public Sort toSort() {
+        return Sort.by(direction, property);
+    }
+
+    /**
+     * 요청의 Sort를 지원하는 정렬 순서로 해석합니다. 정렬이 없으면 LATEST이며, "registrationDate,desc" 형식이나 정렬 이름("LATEST")을 받습니다.
+     *
+     * @throws JobException 지원하지 않는 정렬이거나 정렬 조건이 두 개 이상인 경우
+     */
+    public static JobSortOrder from(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return LATEST;
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            throw new JobException(ErrorCode.INVALID_JOB_SORT);
+        }
+
+        Sort.Order order = orders.get(0);
+        return Arrays.stream(values())
+                .filter(sortOrder -> sortOrder.name().equalsIgnoreCase(order.getProperty())
+                        || (sortOrder.property.equals(order.getProperty())
+                        && sortOrder.direction == order.getDirection()))
+                .findFirst()
+                .orElseThrow(() -> new JobException(ErrorCode.INVALID_JOB_SORT));
+    }
+}
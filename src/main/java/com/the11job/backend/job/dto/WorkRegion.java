@@ -0,0 +1,79 @@
+package com.the11job.backend.job.dto;
+
+import com.the11job.backend.job.entity.Sido;
+import java.util.Optional;
+
+/**
+ * 근무지 주소에서 추출한 지역 (시/도 코드 + 시/군/구 이름)
+ * <p>
+ * 적재 시 자유 형식 주소를 이 값으로 정규화해 인덱스 컬럼(sido_code, sigungu_name)에 저장하고, 목록 조회의 근무지역 필터도 같은 사전으로 해석하여 LIKE 대신
+ * 인덱스 조건으로 검색합니다.
+ *
+ * @param sidoCode    시/도 코드 (알 수 없으면 null)
+ * @param sigunguName 시/군/구 이름 (예: "강남구", 알 수 없으면 null)
+ */
+public record WorkRegion(String sidoCode, String sigunguName) {
+
+    // 시/군/구 이름 최대 길이 (sigungu_name 컬럼 길이)
+    public static final int MAX_SIGUNGU_LENGTH = 20;
+
+    // 주소 앞부분에서 시/도를 찾을 최대 토큰 수 (우편번호 등이 앞에 붙는 경우)
+    private static final int SIDO_SEARCH_TOKENS = 3;
+
+    /**
+     * 근무지 주소("서울특별시 강남구 테헤란로 ...")에서 지역을 추출합니다. 주소의 번지·우편번호를 시/도 코드로 잘못 읽지 않도록 시/도는 이름으로만 찾습니다.
+     *
+     * @return 시/도를 찾지 못하면 empty
+     */
+    public static Optional<WorkRegion> parse(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        for (int i = 0; i < Math.min(tokens.length, SIDO_SEARCH_TOKENS); i++) {
+            Optional<Sido> sido = Sido.findByName(tokens[i]);
+            if (sido.isPresent()) {
+                String sigungu = i + 1 < tokens.length && isSigungu(tokens[i + 1]) ? tokens[i + 1] : null;
+                return Optional.of(new WorkRegion(sido.get().getCode(), sigungu));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 근무지역 필터 값을 지역으로 해석합니다. 시/도 코드나 이름("11", "서울", "서울특별시 강남구") 또는 시/군/구 이름("강남구")을 받습니다.
+     *
+     * @return 사전으로 해석할 수 없는 값이면 empty
+     */
+    public static Optional<WorkRegion> resolve(String filterValue) {
+        if (filterValue == null || filterValue.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] tokens = filterValue.trim().split("\\s+");
+        Optional<Sido> sido = Sido.find(tokens[0]);
+        if (sido.isPresent()) {
+            if (tokens.length == 1) {
+                return Optional.of(new WorkRegion(sido.get().getCode(), null));
+            }
+            return tokens.length == 2 && isSigungu(tokens[1])
+                    ? Optional.of(new WorkRegion(sido.get().getCode(), tokens[1]))
+                    : Optional.empty();
+        }
+        return tokens.length == 1 && isSigungu(tokens[0])
+                ? Optional.of(new WorkRegion(null, tokens[0]))
+                : Optional.empty();
+    }
+
+    /**
+     * "강남구", "수원시", "가평군"처럼 시/군/구 이름 형태인지 확인합니다.
+     */
+    private static boolean isSigungu(String token) {
+        if (token.length() < 2 || token.length() > MAX_SIGUNGU_LENGTH) {
+            return false;
+        }
+        char last = token.charAt(token.length() - 1);
+        return last == '시' || last == '군' || last == '구';
+    }
+}
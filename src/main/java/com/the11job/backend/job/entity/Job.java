@@ -4,20 +4,42 @@ import com.the11job.backend.company.entity.Company;
 import com.the11job.backend.global.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 // 외부 API 고유 ID(requestNo)에 인덱스를 걸어 조회 성능을 높이고, 중복 저장 방지
 @Table(name = "jobs", indexes = {
-        @jakarta.persistence.Index(name = "idx_request_no", columnList = "request_no")
+        @jakarta.persistence.Index(name = "idx_request_no", columnList = "request_no"),
+        // 마감 공고 정리(purge) 시 보존 기간이 지난 CLOSED 공고를 찾기 위한 인덱스
+        @jakarta.persistence.Index(name = "idx_job_status_closed_at", columnList = "status, closed_at"),
+        // 기본 목록/커서(keyset) 조회: 게시 상태별 (등록일, ID) 순서로 인덱스를 따라 읽음 (정렬 없이 LIMIT)
+        @jakarta.persistence.Index(name = "idx_job_status_reg_date_id", columnList = "status, registration_date, id"),
+        // 마감 공고 포함 목록 조회 (상태 조건 없이 등록일 순서로 읽음)
+        @jakarta.persistence.Index(name = "idx_job_reg_date_id", columnList = "registration_date, id"),
+        // 지원 자격 필터 (선택한 값과 '무관'을 값별로 나눠 조회) + 등록일 정렬
+        @jakarta.persistence.Index(name = "idx_job_status_career_reg_date",
+                columnList = "status, career_name, registration_date, id"),
+        // 근무지역 필터: 시/도 단독 조회 + 등록일 정렬 (시/군/구가 중간에 있는 인덱스로는 등록일 순서로 읽을 수 없음)
+        @jakarta.persistence.Index(name = "idx_job_status_sido_reg_date",
+                columnList = "status, sido_code, registration_date, id"),
+        // 근무지역 필터: 시/도 + 시/군/구 조회 + 등록일 정렬
+        @jakarta.persistence.Index(name = "idx_job_status_sido_sigungu_reg_date",
+                columnList = "status, sido_code, sigungu_name, registration_date, id"),
+        // 근무지역 필터: 시/군/구 단독 조회 + 등록일 정렬
+        @jakarta.persistence.Index(name = "idx_job_status_sigungu_reg_date",
+                columnList = "status, sigungu_name, registration_date, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 사용을 위한 기본 생성자
@@ -40,6 +62,14 @@ public class Job extends BaseEntity {
     @Column(name = "work_address", nullable = false)
     private String workAddress;
 
+    // 근무지 시/도 코드 (근무지 주소에서 추출, 알 수 없으면 null)
+    @Column(name = "sido_code", length = 2)
+    private String sidoCode;
+
+    // 근무지 시/군/구 이름 (근무지 주소에서 추출, 알 수 없으면 null)
+    @Column(name = "sigungu_name", length = 20)
+    private String sigunguName;
+
     // 직무 이름 (API 응답: JOBCODE_NM)
     @Column(name = "job_code_name", nullable = false)
     private String jobCodeName;
@@ -64,50 +94,54 @@ public class Job extends BaseEntity {
     @Column(name = "detail_url")
     private String detailUrl;
 
+    // 매핑된 필드(기업명 포함)의 내용 지문 (증분 동기화 시 변경 여부 판단에 사용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 게시 상태 (동기화 스냅샷에서 사라지거나 마감일이 지나면 CLOSED)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'OPEN'") // 컬럼 추가 시 기존 공고는 OPEN으로 채움
+    @Column(name = "status", nullable = false, length = 10)
+    private JobStatus status = JobStatus.OPEN;
+
+    // CLOSED로 바뀐 시각 (보존 기간 계산 기준)
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
     // ----------------------------------------------------
     // Constructor and Builder
     // ----------------------------------------------------
 
     @Builder // 이 생성자에 Builder 부여
-    public Job(Company company, String requestNo, String title, String workAddress,
-               String jobCodeName, String academicName, String careerName,
-               LocalDate registrationDate, LocalDate expirationDate, String detailUrl) {
+    public Job(Company company, String requestNo, String title, String workAddress, String sidoCode,
+               String sigunguName, String jobCodeName, String academicName, String careerName,
+               LocalDate registrationDate, LocalDate expirationDate, String detailUrl, String contentHash) {
         // Company는 JobSaverService에서 setCompany()를 통해 별도로 주입됩니다.
         this.requestNo = requestNo;
         this.title = title;
         this.workAddress = workAddress;
+        this.sidoCode = sidoCode;
+        this.sigunguName = sigunguName;
         this.jobCodeName = jobCodeName;
         this.academicName = academicName;
         this.careerName = careerName;
         this.registrationDate = registrationDate;
         this.expirationDate = expirationDate;
         this.detailUrl = detailUrl;
+        this.contentHash = contentHash;
     }
 
     // ----------------------------------------------------
-    // Business Logic - 데이터 갱신 메서드
+    // Business Logic
     // ----------------------------------------------------
 
     /**
-     * 외부 API로부터 받은 최신 데이터로 엔터티의 내용 갱신 requestNo와 ID는 갱신하지 않음
-     *
-     * @param updatedJob 최신 정보가 담긴 Job 객체 (Company 필드는 null 상태로 넘어옴)
+     * 지정한 날짜 기준으로 마감일이 지났는지 확인합니다. (마감일이 없으면 마감되지 않은 것으로 봅니다.)
      */
-    public void update(Job updatedJob) {
-        // Company는 갱신하지 않음 (JobSaverService에서 트랜잭션 내에서 설정됨)
-        // companyName, hopeWage, weeklyWorkHours 등 중복 필드 제거
-        this.title = updatedJob.getTitle();
-        this.workAddress = updatedJob.getWorkAddress();
-        this.jobCodeName = updatedJob.getJobCodeName();
-        this.academicName = updatedJob.getAcademicName();
-        this.careerName = updatedJob.getCareerName();
-        this.registrationDate = updatedJob.getRegistrationDate();
-        this.expirationDate = updatedJob.getExpirationDate();
-        this.detailUrl = updatedJob.getDetailUrl();
-        // BaseEntity의 updatedDate는 자동으로 갱신
+    public boolean isExpiredOn(LocalDate date) {
+        return expirationDate != null && expirationDate.isBefore(date);
     }
 
-
     /**
      * JobSaverService에서 Company를 연결하기 위한 Setter
      */
@@ -0,0 +1,11 @@
+package com.the11job.backend.job.entity;
+
+/**
+ * 검색 색인 대상 필드 (JobSearchToken의 ownerId가 가리키는 대상)
+ */
+public enum JobSearchField {
+    // 채용 공고 제목 (ownerId = jobs.id)
+    TITLE,
+    // 기업명 (ownerId = companies.id)
+    COMPANY
+}
@@ -0,0 +1,48 @@
+package com.the11job.backend.job.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채용 공고 검색 색인 (공고 제목/기업명의 2-gram 토큰)
+ * <p>
+ * LIKE '%검색어%'는 B-tree 인덱스를 사용할 수 없으므로, 적재 시 제목과 기업명을 2-gram 토큰으로 나눠 저장하고 검색어의 토큰을 모두 가진 대상을 (field, token)
+ * 인덱스로 찾습니다. 행 추가/삭제는 JobSearchIndexRepository(JDBC)로 처리하고, 이 엔티티는 Querydsl 조회에 사용합니다.
+ */
+@Entity
+@Table(name = "job_search_tokens", indexes = {
+        // 검색: field + token으로 대상 ID를 인덱스만으로 조회
+        @Index(name = "idx_search_token_lookup", columnList = "search_field, token, owner_id"),
+        // 재색인/삭제: 대상별 토큰 조회
+        @Index(name = "idx_search_token_owner", columnList = "search_field, owner_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "search_field", nullable = false, length = 10)
+    private JobSearchField field;
+
+    // field가 TITLE이면 jobs.id, COMPANY이면 companies.id
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    // 2-gram 토큰 (보조 문자를 고려해 최대 4 UTF-16 문자)
+    @Column(name = "token", nullable = false, length = 4)
+    private String token;
+}
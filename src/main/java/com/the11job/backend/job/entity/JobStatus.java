@@ -0,0 +1,11 @@
+package com.the11job.backend.job.entity;
+
+/**
+ * 채용 공고 게시 상태
+ */
+public enum JobStatus {
+    // 최근 동기화에서 확인된 게시 중 공고
+    OPEN,
+    // 서울시 API에서 사라졌거나 마감일이 지난 공고 (보존 기간 후 삭제)
+    CLOSED
+}
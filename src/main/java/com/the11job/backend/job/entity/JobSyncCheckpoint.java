@@ -0,0 +1,91 @@
+package com.the11job.backend.job.entity;
+
+import com.the11job.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채용 공고 동기화 체크포인트. 동기화 대상(syncKey)마다 한 행을 두고 마지막 실행 시각과 결과를 기록합니다.
+ */
+@Entity
+@Table(name = "job_sync_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobSyncCheckpoint extends BaseEntity {
+
+    // 동기화 대상 식별자 (예: 서울시 일자리 API)
+    @Column(name = "sync_key", unique = true, nullable = false, length = 50)
+    private String syncKey;
+
+    // 마지막 실행 방식
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_mode", length = 20)
+    private JobSyncMode lastMode;
+
+    // 마지막 실행 시작 시각
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    // 마지막으로 끝까지 완료된 실행의 시작 시각
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    // 마지막으로 완료하지 못한 실행의 시작 시각과 사유
+    @Column(name = "last_failed_at")
+    private LocalDateTime lastFailedAt;
+
+    @Column(name = "last_failure_reason", length = 500)
+    private String lastFailureReason;
+
+    // 마지막 완료 실행의 API 총 건수 및 처리 결과
+    @Column(name = "last_total_count")
+    private int lastTotalCount;
+
+    @Column(name = "last_inserted_count")
+    private int lastInsertedCount;
+
+    @Column(name = "last_updated_count")
+    private int lastUpdatedCount;
+
+    @Column(name = "last_unchanged_count")
+    private int lastUnchangedCount;
+
+    public JobSyncCheckpoint(String syncKey) {
+        this.syncKey = syncKey;
+    }
+
+    /**
+     * 실행 시작을 기록합니다.
+     */
+    public void start(JobSyncMode mode, LocalDateTime startedAt) {
+        this.lastMode = mode;
+        this.lastStartedAt = startedAt;
+    }
+
+    /**
+     * 실행 완료와 처리 결과를 기록합니다.
+     */
+    public void complete(LocalDateTime startedAt, int totalCount, int insertedCount, int updatedCount,
+                         int unchangedCount) {
+        this.lastCompletedAt = startedAt;
+        this.lastTotalCount = totalCount;
+        this.lastInsertedCount = insertedCount;
+        this.lastUpdatedCount = updatedCount;
+        this.lastUnchangedCount = unchangedCount;
+    }
+
+    /**
+     * 완료하지 못한 실행과 사유를 기록합니다.
+     */
+    public void fail(LocalDateTime startedAt, String reason) {
+        this.lastFailedAt = startedAt;
+        this.lastFailureReason = (reason != null && reason.length() > 500) ? reason.substring(0, 500) : reason;
+    }
+}
@@ -0,0 +1,13 @@
+package com.the11job.backend.job.entity;
+
+/**
+ * 채용 공고 동기화 방식
+ */
+public enum JobSyncMode {
+
+    // 내용 지문이 같아도 모든 공고를 다시 기록 (지문 재계산, 데이터 복구용)
+    FULL,
+
+    // 내용 지문이 바뀐 공고만 기록 (기본값)
+    INCREMENTAL
+}
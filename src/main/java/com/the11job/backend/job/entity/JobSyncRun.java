@@ -0,0 +1,102 @@
+package com.the11job.backend.job.entity;
+
+import com.the11job.backend.global.entity.BaseEntity;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채용 공고 동기화 실행 기록. 실행마다 API 호출 구간(JobSyncWindow) 목록을 함께 저장하여, 실패하거나 중단된 실행을 처리하지 못한 구간부터 이어서 진행합니다.
+ */
+@Entity
+@Table(name = "job_sync_runs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobSyncRun extends BaseEntity {
+
+    // 실행 방식
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mode", nullable = false, length = 20)
+    private JobSyncMode mode;
+
+    // 실행 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobSyncRunStatus status;
+
+    // 실행을 계획할 때의 API 총 건수 (이어받기 가능 여부 판단에 사용)
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 처리 결과 (이어받은 실행은 누적)
+    @Column(name = "inserted_count")
+    private int insertedCount;
+
+    @Column(name = "updated_count")
+    private int updatedCount;
+
+    @Column(name = "unchanged_count")
+    private int unchangedCount;
+
+    // API 호출 구간 목록 (실행과 함께 저장)
+    @OneToMany(mappedBy = "run", cascade = CascadeType.PERSIST)
+    private List<JobSyncWindow> windows = new ArrayList<>();
+
+    public JobSyncRun(JobSyncMode mode, int totalCount, LocalDateTime startedAt) {
+        this.mode = mode;
+        this.status = JobSyncRunStatus.RUNNING;
+        this.totalCount = totalCount;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 호출 구간 [startIndex, endIndex]를 추가합니다.
+     */
+    public void addWindow(int startIndex, int endIndex) {
+        windows.add(new JobSyncWindow(this, startIndex, endIndex));
+    }
+
+    /**
+     * 이어받기를 시작합니다.
+     */
+    public void resume() {
+        this.status = JobSyncRunStatus.RUNNING;
+        this.finishedAt = null;
+    }
+
+    /**
+     * 이번 진행분의 결과를 누적하고 실행 상태를 종료 상태로 바꿉니다.
+     */
+    public void finish(JobSyncRunStatus status, int insertedCount, int updatedCount, int unchangedCount,
+                       LocalDateTime finishedAt) {
+        this.status = status;
+        this.insertedCount += insertedCount;
+        this.updatedCount += updatedCount;
+        this.unchangedCount += unchangedCount;
+        this.finishedAt = finishedAt;
+    }
+
+    /**
+     * 이어받지 않고 폐기합니다.
+     */
+    public void abandon(LocalDateTime finishedAt) {
+        this.status = JobSyncRunStatus.ABANDONED;
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.the11job.backend.job.entity;
+
+/**
+ * 채용 공고 동기화 실행의 처리 상태
+ */
+public enum JobSyncRunStatus {
+    // 구간을 처리하는 중 (서버가 중단되면 이 상태로 남아 다음 실행에서 이어받음)
+    RUNNING,
+    // 모든 구간 처리 완료
+    COMPLETED,
+    // 재시도 후에도 실패한 구간이 있음 (다음 실행에서 이어받음)
+    FAILED,
+    // 오래되었거나 API 총 건수가 바뀌어 이어받지 않고 폐기함
+    ABANDONED
+}
@@ -0,0 +1,84 @@
+package com.the11job.backend.job.entity;
+
+import com.the11job.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동기화 실행의 API 호출 구간 [startIndex, endIndex]과 처리 상태
+ */
+@Entity
+@Table(name = "job_sync_windows", indexes = {
+        @Index(name = "idx_job_sync_window_run_status", columnList = "run_id, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobSyncWindow extends BaseEntity {
+
+    // 오류 메시지 최대 저장 길이
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id", nullable = false)
+    private JobSyncRun run;
+
+    @Column(name = "start_index", nullable = false)
+    private int startIndex;
+
+    @Column(name = "end_index", nullable = false)
+    private int endIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobSyncWindowStatus status;
+
+    // 호출 시도 횟수 (재시도 포함, 실행을 이어받아도 누적)
+    @Column(name = "attempts")
+    private int attempts;
+
+    // 저장한 row 수
+    @Column(name = "processed_count")
+    private int processedCount;
+
+    // 마지막 실패 원인
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    JobSyncWindow(JobSyncRun run, int startIndex, int endIndex) {
+        this.run = run;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.status = JobSyncWindowStatus.PENDING;
+    }
+
+    /**
+     * 구간 처리 완료를 기록합니다.
+     */
+    public void complete(int attempts, int processedCount) {
+        this.status = JobSyncWindowStatus.COMPLETED;
+        this.attempts += attempts;
+        this.processedCount = processedCount;
+        this.lastError = null;
+    }
+
+    /**
+     * 구간 호출 실패를 기록합니다.
+     */
+    public void fail(int attempts, String error) {
+        this.status = JobSyncWindowStatus.FAILED;
+        this.attempts += attempts;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
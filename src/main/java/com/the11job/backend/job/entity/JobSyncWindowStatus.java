@@ -0,0 +1,13 @@
+package com.the11job.backend.job.entity;
+
+/**
+ * 동기화 실행의 API 호출 구간별 처리 상태
+ */
+public enum JobSyncWindowStatus {
+    // 아직 처리하지 않음
+    PENDING,
+    // 호출과 저장 완료
+    COMPLETED,
+    // 재시도 후에도 호출 실패
+    FAILED
+}
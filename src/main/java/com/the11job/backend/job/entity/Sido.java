@@ -0,0 +1,75 @@
+package com.the11job.backend.job.entity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시/도 (광역자치단체). 코드는 행정구역 코드(법정동 코드)의 앞 2자리입니다.
+ */
+public enum Sido {
+    SEOUL("11", "서울특별시", "서울", "서울시"),
+    BUSAN("26", "부산광역시", "부산", "부산시"),
+    DAEGU("27", "대구광역시", "대구", "대구시"),
+    INCHEON("28", "인천광역시", "인천", "인천시"),
+    GWANGJU("29", "광주광역시", "광주"),
+    DAEJEON("30", "대전광역시", "대전", "대전시"),
+    ULSAN("31", "울산광역시", "울산", "울산시"),
+    SEJONG("36", "세종특별자치시", "세종", "세종시"),
+    GYEONGGI("41", "경기도", "경기"),
+    CHUNGBUK("43", "충청북도", "충북"),
+    CHUNGNAM("44", "충청남도", "충남"),
+    JEONNAM("46", "전라남도", "전남"),
+    GYEONGBUK("47", "경상북도", "경북"),
+    GYEONGNAM("48", "경상남도", "경남"),
+    JEJU("50", "제주특별자치도", "제주", "제주도"),
+    GANGWON("51", "강원특별자치도", "강원", "강원도"),
+    JEONBUK("52", "전북특별자치도", "전북", "전라북도");
+
+    // 코드 -> 시/도
+    private static final Map<String, Sido> BY_CODE = new HashMap<>();
+    // 정식 명칭, 약칭 -> 시/도
+    private static final Map<String, Sido> BY_NAME = new HashMap<>();
+
+    static {
+        for (Sido sido : values()) {
+            BY_CODE.put(sido.code, sido);
+            BY_NAME.put(sido.officialName, sido);
+            sido.aliases.forEach(alias -> BY_NAME.put(alias, sido));
+        }
+    }
+
+    private final String code;
+    private final String officialName;
+    private final List<String> aliases;
+
+    Sido(String code, String officialName, String... aliases) {
+        this.code = code;
+        this.officialName = officialName;
+        this.aliases = List.of(aliases);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getOfficialName() {
+        return officialName;
+    }
+
+    /**
+     * 코드("11"), 정식 명칭("서울특별시"), 약칭("서울")으로 시/도를 찾습니다. 사용자가 고른 필터 값처럼 코드가 올 수 있는 값에 사용합니다.
+     */
+    public static Optional<Sido> find(String value) {
+        return findByName(value).or(() -> Optional.ofNullable(value).map(BY_CODE::get));
+    }
+
+    /**
+     * 정식 명칭("서울특별시"), 약칭("서울")으로만 시/도를 찾습니다. 주소처럼 번지·우편번호 숫자가 섞인 자유 형식 문자열에 사용합니다.
+     * (예: "강남구 테헤란로 27"의 "27"을 대구 코드로 해석하지 않음)
+     */
+    public static Optional<Sido> findByName(String value) {
+        return Optional.ofNullable(value).map(BY_NAME::get);
+    }
+}
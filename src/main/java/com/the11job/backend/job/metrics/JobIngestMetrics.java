@@ -0,0 +1,141 @@
+package com.the11job.backend.job.metrics;
+
+import com.the11job.backend.job.service.JobSaveResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 적재 파이프라인의 단계별 Micrometer 지표
+ * <p>
+ * 호출(fetch, 스트리밍 파싱 포함), 변환(map), 기업 해석(company), 저장(persist), 청크 트랜잭션(chunk), 실행 전체(run) 시간을 기록하고, 처리 결과별 row 수와
+ * 재시도/구간 결과를 카운터로 남깁니다. Actuator의 /actuator/metrics, /actuator/prometheus로 조회합니다.
+ */
+@Component
+public class JobIngestMetrics {
+
+    private static final String PREFIX = "job.ingest";
+
+    private final MeterRegistry registry;
+
+    private final Timer mapTimer;
+    private final Timer companyResolveTimer;
+    private final Timer persistTimer;
+    private final Timer chunkTimer;
+
+    private final Counter insertedRows;
+    private final Counter updatedRows;
+    private final Counter unchangedRows;
+    private final Counter skippedRows;
+    private final Counter retries;
+    private final Counter completedWindows;
+    private final Counter failedWindows;
+
+    // 마지막 실행의 초당 처리 row 수
+    private final AtomicLong lastRunRowsPerSecond = new AtomicLong();
+
+    public JobIngestMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        // map: API row -> Job 변환, company: 기업명 -> ID 해석, persist: 기존 공고 조회 및 배치 INSERT/UPDATE
+        this.mapTimer = stageTimer("map");
+        this.companyResolveTimer = stageTimer("company");
+        this.persistTimer = stageTimer("persist");
+        this.chunkTimer = Timer.builder(PREFIX + ".chunk.transaction")
+                .description("청크 트랜잭션 전체 시간 (커밋 포함)")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        this.insertedRows = rowCounter("inserted");
+        this.updatedRows = rowCounter("updated");
+        this.unchangedRows = rowCounter("unchanged");
+        this.skippedRows = rowCounter("skipped");
+        this.retries = Counter.builder(PREFIX + ".fetch.retries")
+                .description("API 호출 재시도 횟수")
+                .register(registry);
+        this.completedWindows = windowCounter("completed");
+        this.failedWindows = windowCounter("failed");
+
+        registry.gauge(PREFIX + ".last.run.rows.per.second", lastRunRowsPerSecond);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 한 구간(페이지)의 호출 시간을 기록합니다. 응답은 도착하는 대로 파싱되므로 파싱 시간이 포함됩니다.
+     */
+    public void recordFetch(Timer.Sample sample, boolean success) {
+        sample.stop(Timer.builder(PREFIX + ".fetch")
+                .description("구간(페이지)별 API 호출 및 스트리밍 파싱 시간")
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(registry));
+        (success ? completedWindows : failedWindows).increment();
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordMap(Timer.Sample sample) {
+        sample.stop(mapTimer);
+    }
+
+    public void recordCompanyResolve(Timer.Sample sample) {
+        sample.stop(companyResolveTimer);
+    }
+
+    public void recordPersist(Timer.Sample sample) {
+        sample.stop(persistTimer);
+    }
+
+    /**
+     * 커밋된 청크의 트랜잭션 시간과 처리 결과별 row 수를 기록합니다.
+     */
+    public void recordChunk(Timer.Sample sample, JobSaveResult result) {
+        sample.stop(chunkTimer);
+        insertedRows.increment(result.inserted());
+        updatedRows.increment(result.updated());
+        unchangedRows.increment(result.unchanged());
+        skippedRows.increment(Math.max(0, result.processed() - result.inserted() - result.updated() - result.unchanged()));
+    }
+
+    /**
+     * 실행 전체 시간을 결과(완료/실패)별로 기록하고, 완료된 실행이면 초당 처리 row 수를 갱신합니다.
+     */
+    public void recordRun(Timer.Sample sample, int processedRows, boolean completed) {
+        long elapsedNanos = sample.stop(Timer.builder(PREFIX + ".run")
+                .description("동기화 실행 전체 시간")
+                .tag("outcome", completed ? "completed" : "failed")
+                .register(registry));
+        if (completed && elapsedNanos > 0) {
+            lastRunRowsPerSecond.set(Math.round(processedRows * 1_000_000_000d / elapsedNanos));
+        }
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(PREFIX + ".stage")
+                .description("적재 단계별 처리 시간 (청크 단위)")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter rowCounter(String result) {
+        return Counter.builder(PREFIX + ".rows")
+                .description("처리 결과별 row 수")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter windowCounter(String outcome) {
+        return Counter.builder(PREFIX + ".windows")
+                .description("결과별 API 호출 구간 수")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
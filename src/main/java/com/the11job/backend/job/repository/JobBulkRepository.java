@@ -0,0 +1,198 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.entity.Job;
+import com.the11job.backend.job.entity.JobStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채용 공고 배치 적재 전용 JDBC Repository
+ * <p>
+ * IDENTITY 전략에서는 JPA save()가 건마다 INSERT를 즉시 실행하여 JDBC 배치를 사용할 수 없으므로, 청크 단위의 조회/INSERT/UPDATE를 JDBC로 직접 처리합니다.
+ * (MySQL에서는 접속 URL에 rewriteBatchedStatements=true를 설정해야 배치가 다중 행 INSERT로 전송됩니다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobBulkRepository {
+
+    private static final String SELECT_STORED_BY_REQUEST_NO =
+            "SELECT id, request_no, content_hash, status FROM jobs WHERE request_no IN (:requestNos)";
+
+    private static final String INSERT_JOB =
+            "INSERT INTO jobs (company_id, request_no, title, work_address, sido_code, sigungu_name, job_code_name, "
+                    + "academic_name, career_name, registration_date, expiration_date, detail_url, content_hash, status, "
+                    + "created_date, updated_date) "
+                    + "VALUES (:companyId, :requestNo, :title, :workAddress, :sidoCode, :sigunguName, :jobCodeName, "
+                    + ":academicName, :careerName, :registrationDate, :expirationDate, :detailUrl, :contentHash, :openStatus, :now, :now)";
+
+    private static final String UPDATE_JOB =
+            "UPDATE jobs SET company_id = :companyId, title = :title, work_address = :workAddress, "
+                    + "sido_code = :sidoCode, sigungu_name = :sigunguName, job_code_name = :jobCodeName, academic_name = :academicName, career_name = :careerName, "
+                    + "registration_date = :registrationDate, expiration_date = :expirationDate, "
+                    + "detail_url = :detailUrl, content_hash = :contentHash, status = :openStatus, closed_at = NULL, "
+                    + "updated_date = :now WHERE id = :id";
+
+    private static final String SELECT_OPEN_REQUEST_NOS =
+            "SELECT id, request_no FROM jobs WHERE status = :openStatus";
+
+    private static final String CLOSE_BY_IDS =
+            "UPDATE jobs SET status = :closedStatus, closed_at = :now, updated_date = :now "
+                    + "WHERE id IN (:ids) AND status = :openStatus";
+
+    private static final String CLOSE_EXPIRED =
+            "UPDATE jobs SET status = :closedStatus, closed_at = :now, updated_date = :now "
+                    + "WHERE status = :openStatus AND expiration_date < :today";
+
+    private static final String SELECT_CLOSED_IDS_BEFORE =
+            "SELECT id FROM jobs WHERE status = :closedStatus AND closed_at < :cutoff ORDER BY id LIMIT :limit";
+
+    private static final String DELETE_CLOSED_BY_IDS =
+            "DELETE FROM jobs WHERE id IN (:ids) AND status = :closedStatus";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * requestNo 목록에 해당하는 기존 공고의 ID와 내용 지문을 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param requestNos 조회할 외부 공고 ID 목록
+     * @return requestNo -> 저장된 공고 (ID, 내용 지문)
+     */
+    public Map<String, StoredJob> findStoredJobsByRequestNos(Collection<String> requestNos) {
+        if (requestNos.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, StoredJob> storedJobs = new HashMap<>();
+        jdbcTemplate.query(SELECT_STORED_BY_REQUEST_NO, Map.of("requestNos", requestNos),
+                (RowCallbackHandler) rs -> storedJobs.put(rs.getString("request_no"),
+                        new StoredJob(rs.getLong("id"), rs.getString("content_hash"),
+                                JobStatus.valueOf(rs.getString("status")))));
+        return storedJobs;
+    }
+
+    /**
+     * 신규 공고를 배치 INSERT 합니다. (Company는 미리 저장되어 ID가 있어야 합니다.)
+     */
+    public void insertAll(List<Job> jobs, LocalDateTime now) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = jobs.stream()
+                .map(job -> toParameters(job, now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_JOB, params);
+    }
+
+    /**
+     * 기존 공고를 배치 UPDATE 합니다. 스냅샷에 다시 나타난 공고이므로 OPEN으로 되돌립니다. (requestNo와 createdDate는 갱신하지 않습니다.)
+     *
+     * @param jobsById jobs.id -> 최신 정보가 담긴 Job
+     */
+    public void updateAll(Map<Long, Job> jobsById, LocalDateTime now) {
+        if (jobsById.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = jobsById.entrySet().stream()
+                .map(entry -> toParameters(entry.getValue(), now).addValue("id", entry.getKey()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_JOB, params);
+    }
+
+    /**
+     * 게시 중(OPEN)인 모든 공고의 ID와 requestNo를 한 행씩 전달합니다. (결과를 한 번에 목록으로 만들지 않음)
+     */
+    public void forEachOpenRequestNo(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(SELECT_OPEN_REQUEST_NOS, Map.of("openStatus", JobStatus.OPEN.name()),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("id"), rs.getString("request_no")));
+    }
+
+    /**
+     * 지정한 공고들을 CLOSED로 변경합니다. (이미 CLOSED인 공고는 건너뜀)
+     *
+     * @return 변경된 공고 수
+     */
+    public int closeAll(Collection<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(CLOSE_BY_IDS, statusParameters()
+                .addValue("ids", ids)
+                .addValue("now", now));
+    }
+
+    /**
+     * 마감일이 지난 게시 중 공고를 CLOSED로 변경합니다.
+     *
+     * @return 변경된 공고 수
+     */
+    public int closeExpired(LocalDate today, LocalDateTime now) {
+        return jdbcTemplate.update(CLOSE_EXPIRED, statusParameters()
+                .addValue("today", today)
+                .addValue("now", now));
+    }
+
+    /**
+     * cutoff 이전에 CLOSED가 된 공고 ID를 최대 limit건 조회합니다.
+     */
+    public List<Long> findClosedIdsBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(SELECT_CLOSED_IDS_BEFORE, statusParameters()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * CLOSED 상태인 공고를 삭제합니다. (조회 후 다시 OPEN이 된 공고는 삭제하지 않음)
+     *
+     * @return 삭제된 공고 수
+     */
+    public int deleteClosedByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_CLOSED_BY_IDS, statusParameters().addValue("ids", ids));
+    }
+
+    private MapSqlParameterSource statusParameters() {
+        return new MapSqlParameterSource()
+                .addValue("openStatus", JobStatus.OPEN.name())
+                .addValue("closedStatus", JobStatus.CLOSED.name());
+    }
+
+    private MapSqlParameterSource toParameters(Job job, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("companyId", job.getCompany().getId())
+                .addValue("requestNo", job.getRequestNo())
+                .addValue("title", job.getTitle())
+                .addValue("workAddress", job.getWorkAddress())
+                .addValue("sidoCode", job.getSidoCode())
+                .addValue("sigunguName", job.getSigunguName())
+                .addValue("jobCodeName", job.getJobCodeName())
+                .addValue("academicName", job.getAcademicName())
+                .addValue("careerName", job.getCareerName())
+                .addValue("registrationDate", job.getRegistrationDate())
+                .addValue("expirationDate", job.getExpirationDate())
+                .addValue("detailUrl", job.getDetailUrl())
+                .addValue("contentHash", job.getContentHash())
+                .addValue("openStatus", JobStatus.OPEN.name())
+                .addValue("now", now);
+    }
+
+    /**
+     * DB에 저장된 공고의 ID, 내용 지문, 게시 상태
+     */
+    public record StoredJob(Long id, String contentHash, JobStatus status) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.dto.JobFacet;
+import com.the11job.backend.job.entity.JobStatus;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 필터 항목별 건수 색인(JobFacetIndex)을 만들기 위한 JDBC Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobFacetRepository {
+
+    private static final String SELECT_FACET_ROWS =
+            "SELECT id, status, career_name, academic_name, job_code_name, sido_code, sigungu_name "
+                    + "FROM jobs ORDER BY id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 공고의 필터 항목 값을 ID 오름차순으로 한 행씩 전달합니다. (결과를 한 번에 목록으로 만들지 않음)
+     */
+    public void forEachFacetRow(Consumer<FacetRow> consumer) {
+        jdbcTemplate.query(SELECT_FACET_ROWS, Map.of(),
+                (RowCallbackHandler) rs -> consumer.accept(new FacetRow(
+                        rs.getLong("id"),
+                        JobStatus.valueOf(rs.getString("status")),
+                        rs.getString("career_name"),
+                        rs.getString("academic_name"),
+                        rs.getString("job_code_name"),
+                        rs.getString("sido_code"),
+                        rs.getString("sigungu_name"))));
+    }
+
+    /**
+     * 공고 한 건의 ID, 게시 상태, 필터 항목 값
+     */
+    public record FacetRow(long id, JobStatus status, String careerName, String academicName, String jobCodeName,
+                           String sidoCode, String sigunguName) {
+
+        public String value(JobFacet facet) {
+            return switch (facet) {
+                case CAREER -> careerName;
+                case ACADEMIC -> academicName;
+                case JOB_CODE -> jobCodeName;
+                case SIDO -> sidoCode;
+                case SIGUNGU -> sigunguName;
+            };
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.the11job.backend.job.repository;
 
+import com.the11job.backend.job.dto.JobCursor;
 import com.the11job.backend.job.dto.JobFilterRequest;
-import com.the11job.backend.job.entity.Job;
+import com.the11job.backend.job.dto.JobResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,11 +15,48 @@ import org.springframework.data.domain.Pageable;
 public interface JobRepositoryCustom {
 
     /**
-     * 필터링 조건과 검색어를 적용하여 채용 공고 목록을 페이징 처리하여 조회합니다.
+     * 필터링 조건과 검색어를 적용하여 채용 공고 목록을 페이징 처리하여 조회합니다. 엔티티 대신 응답 DTO를 바로 조회합니다.
      *
      * @param request  필터링 조건 DTO
      * @param pageable 페이징 정보
-     * @return 필터링된 Job 목록 (Page 객체)
+     * @return 필터링된 공고 목록 (Page 객체)
      */
-    Page<Job> findJobsByFilter(JobFilterRequest request, Pageable pageable);
-}
\ No newline at end of file
+    Page<JobResponse> findJobsByFilter(JobFilterRequest request, Pageable pageable);
+
+    /**
+     * 전체 개수를 직접 조회하지 않고 totalSupplier로 받아 페이징합니다. (캐시된 개수나 추정치를 사용할 때)
+     *
+     * @param totalSupplier 전체 개수 공급자 (현재 페이지만으로 전체 개수를 알 수 있으면 호출하지 않음)
+     */
+    Page<JobResponse> findJobsByFilter(JobFilterRequest request, Pageable pageable, LongSupplier totalSupplier);
+
+    /**
+     * 필터링 조건에 맞는 채용 공고 수를 조회합니다.
+     */
+    long countJobsByFilter(JobFilterRequest request);
+
+    /**
+     * 필터링 조건을 적용하여 커서 다음의 채용 공고를 (등록일, ID) 내림차순으로 조회합니다. 전체 개수는 조회하지 않습니다.
+     *
+     * @param request 필터링 조건 DTO
+     * @param cursor  마지막으로 받은 공고의 커서 (첫 요청이면 null)
+     * @param limit   최대 조회 건수
+     * @return 커서 다음의 공고 목록
+     */
+    List<JobResponse> findJobsByCursor(JobFilterRequest request, JobCursor cursor, int limit);
+
+    /**
+     * 검색어와 지역 사전으로 해석하지 못한 근무지역(주소 부분 일치) 조건에 맞는 공고 ID를 조회합니다. 게시 상태, 지원 자격, 지역 코드 조건은 적용하지 않습니다.
+     * (필터 항목별 건수 집계에서 색인으로 처리할 수 없는 조건에 사용)
+     */
+    List<Long> findJobIdsByTextFilter(JobFilterRequest request);
+
+    /**
+     * 공고 ID 또는 requestNo 목록에 해당하는 공고를 게시 상태와 관계없이 한 번의 쿼리로 조회합니다.
+     *
+     * @param jobIds     조회할 공고 ID 목록
+     * @param requestNos 조회할 외부 공고 ID 목록
+     * @return 존재하는 공고 목록 (순서 보장 없음)
+     */
+    List<JobResponse> findJobsByIdsOrRequestNos(Collection<Long> jobIds, Collection<String> requestNos);
+}
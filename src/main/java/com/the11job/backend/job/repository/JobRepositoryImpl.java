@@ -2,122 +2,340 @@ package com.the11job.backend.job.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Path;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.the11job.backend.company.entity.QCompany;
+import com.the11job.backend.global.util.NgramTokenizer;
+import com.the11job.backend.job.dto.JobCursor;
+import com.the11job.backend.job.dto.JobFilterKey;
 import com.the11job.backend.job.dto.JobFilterRequest;
-import com.the11job.backend.job.entity.Job;
+import com.the11job.backend.job.dto.JobResponse;
+import com.the11job.backend.job.dto.JobSortOrder;
+import com.the11job.backend.job.dto.QJobResponse;
+import com.the11job.backend.job.entity.JobSearchField;
+import com.the11job.backend.job.entity.JobStatus;
 import com.the11job.backend.job.entity.QJob;
+import com.the11job.backend.job.entity.QJobSearchToken;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class JobRepositoryImpl implements JobRepositoryCustom {
 
+    // 검색 관련도 점수: 제목 일치가 기업명 일치보다 앞에 오도록 가중치 부여
+    private static final int TITLE_WEIGHT = 2;
+    private static final int COMPANY_WEIGHT = 1;
+
+    // 지원 자격 필터를 값별로 나눠 조회한 뒤 합치는 최대 행 수 (offset + 페이지 크기), 더 깊은 페이지는 IN 조건 한 번으로 조회
+    private static final int CAREER_MERGE_MAX_ROWS = 1_000;
+
     private final JPAQueryFactory queryFactory;
     private final QJob job = QJob.job;
+    private final QCompany company = QCompany.company;
+    private final QJobSearchToken searchToken = QJobSearchToken.jobSearchToken;
+
+    @Override
+    public Page<JobResponse> findJobsByFilter(JobFilterRequest request, Pageable pageable) {
+        return findJobsByFilter(request, pageable, () -> countJobsByFilter(request));
+    }
+
+    @Override
+    public Page<JobResponse> findJobsByFilter(JobFilterRequest request, Pageable pageable,
+                                              LongSupplier totalSupplier) {
+
+        JobFilterKey filter = JobFilterKey.of(request);
+        JobSortOrder sortOrder = JobSortOrder.from(pageable.getSort());
+        Optional<OrderSpecifier<Integer>> relevance = keywordCondition(filter).map(KeywordCondition::relevance);
+
+        // 1. 데이터 조회 (Offset, Limit, Ordering 적용, 기업을 조인하여 한 번의 쿼리로 응답 DTO 생성)
+        List<JobResponse> results;
+        if (filter.careerConditionName() != null && relevance.isEmpty()
+                && pageable.getOffset() + pageable.getPageSize() <= CAREER_MERGE_MAX_ROWS) {
+            results = fetchByCareer(filter, null, sortOrder, (int) pageable.getOffset(), pageable.getPageSize());
+        } else {
+            // 전체(ALL) 검색이면 관련도 순으로 먼저 정렬하고, 같은 관련도 안에서 요청한 정렬 적용 (지원하는 정렬만 허용)
+            List<OrderSpecifier<?>> orders = new ArrayList<>();
+            relevance.ifPresent(orders::add);
+            orders.addAll(sortOrder.getOrderSpecifiers());
+            results = fetchPage(buildFilterCondition(filter), orders, pageable.getOffset(), pageable.getPageSize());
+        }
+
+        // 2. 전체 개수 조회: 조회 결과만으로 전체 개수를 알 수 있으면(마지막 페이지 등) 개수 조회를 생략
+        return PageableExecutionUtils.getPage(results, pageable, totalSupplier);
+    }
 
     @Override
-    public Page<Job> findJobsByFilter(JobFilterRequest request, Pageable pageable) {
+    public long countJobsByFilter(JobFilterRequest request) {
+        JobFilterKey filter = JobFilterKey.of(request);
+        JPAQuery<Long> query = queryFactory
+                .select(job.count())
+                .from(job);
+        joinCompanyIfNeeded(query, filter);
+        return Optional.ofNullable(query
+                .where(buildFilterCondition(filter))
+                .fetchOne()).orElse(0L);
+    }
 
-        BooleanBuilder builder = buildFilterCondition(request);
+    @Override
+    public List<JobResponse> findJobsByIdsOrRequestNos(Collection<Long> jobIds, Collection<String> requestNos) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (!jobIds.isEmpty()) {
+            builder.or(job.id.in(jobIds));
+        }
+        if (!requestNos.isEmpty()) {
+            builder.or(job.requestNo.in(requestNos));
+        }
+        if (!builder.hasValue()) {
+            return List.of();
+        }
 
-        // 1. 데이터 조회 (Offset, Limit, Ordering 적용)
-        List<Job> results = queryFactory
-                .selectFrom(job)
+        return queryFactory
+                .select(jobResponse())
+                .from(job)
+                .leftJoin(job.company, company)
                 .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(getOrderSpecifiers(pageable.getSort()))
                 .fetch();
+    }
 
-        // 2. 전체 개수 조회
-        long total = Optional.ofNullable(queryFactory
-                .select(job.count())
+    @Override
+    public List<Long> findJobIdsByTextFilter(JobFilterRequest request) {
+        JobFilterKey filter = JobFilterKey.of(request);
+        BooleanBuilder builder = new BooleanBuilder();
+        Optional.ofNullable(filter.workLocation())
+                .ifPresent(location -> builder.and(job.workAddress.containsIgnoreCase(location)));
+        keywordCondition(filter).ifPresent(condition -> builder.and(condition.predicate()));
+
+        JPAQuery<Long> query = queryFactory
+                .select(job.id)
+                .from(job);
+        joinCompanyIfNeeded(query, filter);
+        return query
+                .where(builder)
+                .fetch();
+    }
+
+    /**
+     * 커서(keyset) 기반 조회. OFFSET 없이 (registrationDate, id) 위치부터 읽으므로 스크롤 깊이와 관계없이 비용이 같습니다.
+     * <p>
+     * 정렬 순서는 LATEST(등록일 내림차순, 등록일 없는 공고는 마지막, ID 내림차순)로 고정하며, 검색어 관련도 정렬은 적용하지 않습니다.
+     */
+    @Override
+    public List<JobResponse> findJobsByCursor(JobFilterRequest request, JobCursor cursor, int limit) {
+        JobFilterKey filter = JobFilterKey.of(request);
+        BooleanExpression afterCursor = cursor == null ? null : afterCursor(cursor);
+        if (filter.careerConditionName() != null) {
+            return fetchByCareer(filter, afterCursor, JobSortOrder.LATEST, 0, limit);
+        }
+
+        BooleanBuilder builder = buildFilterCondition(filter);
+        if (afterCursor != null) {
+            builder.and(afterCursor);
+        }
+        return fetchPage(builder, JobSortOrder.LATEST.getOrderSpecifiers(), 0, limit);
+    }
+
+    private List<JobResponse> fetchPage(BooleanBuilder builder, List<OrderSpecifier<?>> orders, long offset,
+                                        int limit) {
+        return queryFactory
+                .select(jobResponse())
                 .from(job)
+                .leftJoin(job.company, company)
                 .where(builder)
-                .fetchOne()).orElse(0L);
+                .offset(offset)
+                .limit(limit)
+                .orderBy(orders.toArray(OrderSpecifier[]::new))
+                .fetch();
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    /**
+     * 지원 자격 필터(선택한 값 + '무관') 조회
+     * <p>
+     * career_name IN (?, '무관')은 인덱스 범위가 둘로 나뉘어 등록일 순서로 읽을 수 없으므로, 조건에 맞는 공고 전체를 정렬(filesort)하게 됩니다. 대신 값마다
+     * (status, career_name, registration_date, id) 인덱스를 순서대로 따라 offset + limit 건씩만 읽고, 두 결과를 같은 정렬 순서로 합쳐 페이지를
+     * 잘라냅니다. (UNION ALL + LIMIT을 애플리케이션에서 수행)
+     *
+     * @param extraCondition 추가 조건 (커서 위치 등, 없으면 null)
+     */
+    private List<JobResponse> fetchByCareer(JobFilterKey filter, BooleanExpression extraCondition,
+                                            JobSortOrder sortOrder, int offset, int limit) {
+        int window = offset + limit;
+        List<JobResponse> merged = new ArrayList<>(window * 2);
+        for (String career : List.of(filter.careerConditionName(), JobFilterKey.CAREER_IRRELEVANT)) {
+            BooleanBuilder builder = buildFilterCondition(filter, false).and(job.careerName.eq(career));
+            if (extraCondition != null) {
+                builder.and(extraCondition);
+            }
+            merged.addAll(fetchPage(builder, sortOrder.getOrderSpecifiers(), 0, window));
+        }
+
+        merged.sort(sortOrder.getComparator());
+        return List.copyOf(merged.subList(Math.min(offset, merged.size()), Math.min(window, merged.size())));
     }
 
     /**
-     * Pageable의 Sort 정보를 Querydsl의 OrderSpecifier 배열로 변환합니다.
+     * 기업명을 LIKE로 검색하는 경우(한 글자 검색어)에만 기업을 조인합니다. 목록 조회는 응답 DTO를 위해 항상 조인합니다.
      */
-    private OrderSpecifier[] getOrderSpecifiers(Sort sort) {
-        Path<Job> entityPath = job;
-        PathBuilder<Job> builder = new PathBuilder<>(entityPath.getType(), entityPath.getMetadata());
+    private void joinCompanyIfNeeded(JPAQuery<?> query, JobFilterKey filter) {
+        if (keywordCondition(filter).map(KeywordCondition::joinsCompany).orElse(false)) {
+            query.leftJoin(job.company, company);
+        }
+    }
 
-        return sort.stream()
-                .map(order -> {
-                    // company.name과 같은 관계 필드에 대한 정렬을 PathBuilder가 처리하도록 위임
-                    Path<?> path = builder.get(order.getProperty());
+    /**
+     * 목록 응답에 필요한 컬럼만 선택하는 projection. 영속성 컨텍스트에 엔티티를 올리지 않아 기업 지연 로딩(N+1)과 변경 감지 스냅샷이 없습니다.
+     */
+    private QJobResponse jobResponse() {
+        return new QJobResponse(
+                job.id,
+                job.requestNo,
+                company.name.coalesce(JobResponse.UNKNOWN_COMPANY_NAME),
+                job.title,
+                job.workAddress,
+                job.jobCodeName,
+                job.academicName,
+                job.careerName,
+                job.registrationDate,
+                job.expirationDate,
+                job.detailUrl);
+    }
 
-                    return order.isAscending()
-                            ? new OrderSpecifier(com.querydsl.core.types.Order.ASC,
-                            (com.querydsl.core.types.Expression) path)
-                            : new OrderSpecifier(com.querydsl.core.types.Order.DESC,
-                                    (com.querydsl.core.types.Expression) path);
-                })
-                .toArray(OrderSpecifier[]::new);
+    /**
+     * (registrationDate DESC NULLS LAST, id DESC) 순서에서 커서 뒤에 오는 공고 조건
+     */
+    private BooleanExpression afterCursor(JobCursor cursor) {
+        if (cursor.registrationDate() == null) {
+            return job.registrationDate.isNull().and(job.id.lt(cursor.jobId()));
+        }
+        return job.registrationDate.lt(cursor.registrationDate())
+                .or(job.registrationDate.eq(cursor.registrationDate()).and(job.id.lt(cursor.jobId())))
+                .or(job.registrationDate.isNull());
     }
 
     /**
-     * 요청 DTO를 기반으로 동적 WHERE 절 (BooleanBuilder)을 생성합니다.
+     * 정규화된 필터 조건을 기반으로 동적 WHERE 절 (BooleanBuilder)을 생성합니다.
      */
-    private BooleanBuilder buildFilterCondition(JobFilterRequest request) {
+    private BooleanBuilder buildFilterCondition(JobFilterKey filter) {
+        return buildFilterCondition(filter, true);
+    }
+
+    /**
+     * 필터 조건으로 WHERE 절을 생성합니다. 지원 자격을 값별로 나눠 조회할 때는 지원 자격 조건을 빼고 호출하는 쪽에서 추가합니다.
+     *
+     * @param includeCareer 지원 자격 조건 포함 여부
+     */
+    private BooleanBuilder buildFilterCondition(JobFilterKey filter, boolean includeCareer) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 근무 지역 필터링
-        Optional.ofNullable(request.getWorkLocation())
-                .filter(s -> !s.isEmpty())
+        // 게시 상태 필터링 (기본적으로 마감된 공고 제외)
+        if (!filter.includeClosed()) {
+            builder.and(job.status.eq(JobStatus.OPEN));
+        }
+
+        // 근무 지역 필터링 (지역 사전으로 해석한 값은 인덱스 컬럼으로, 해석하지 못한 값은 주소 부분 일치로 검색)
+        Optional.ofNullable(filter.sidoCode())
+                .ifPresent(sidoCode -> builder.and(job.sidoCode.eq(sidoCode)));
+        Optional.ofNullable(filter.sigunguName())
+                .ifPresent(sigunguName -> builder.and(job.sigunguName.eq(sigunguName)));
+        Optional.ofNullable(filter.workLocation())
                 .ifPresent(location ->
                         builder.and(job.workAddress.containsIgnoreCase(location))
                 );
 
-        // 지원 자격 필터링 (경력, 신입, 무관 등)
-        Optional.ofNullable(request.getCareerConditionName())
-                .filter(s -> !s.isEmpty() && !s.equalsIgnoreCase("무관"))
-                .ifPresent(career -> {
-                    // 선택한 career와 '무관'인 공고를 모두 포함
-                    BooleanExpression careerCondition = job.careerName.eq(career);
-                    BooleanExpression irrelevantCondition = job.careerName.eq("무관");
+        // 지원 자격 필터링 (경력, 신입 등, '무관'은 JobFilterKey에서 제외됨)
+        Optional.ofNullable(filter.careerConditionName())
+                .filter(career -> includeCareer)
+                .ifPresent(career ->
+                        // 선택한 career와 '무관'인 공고를 모두 포함 (OR 대신 IN으로 인덱스 범위 조건 사용)
+                        builder.and(job.careerName.in(career, JobFilterKey.CAREER_IRRELEVANT))
+                );
+
+        // 검색어 필터링 (검색 색인 기반)
+        keywordCondition(filter).ifPresent(condition -> builder.and(condition.predicate()));
 
-                    builder.and(careerCondition.or(irrelevantCondition));
-                });
+        return builder;
+    }
 
-        // 검색어 필터링
-        Optional.ofNullable(request.getSearchKeyword())
-                .filter(s -> !s.isEmpty())
-                .ifPresent(keyword -> {
-                    String type = Optional.ofNullable(request.getSearchType()).orElse("ALL");
+    /**
+     * 검색어와 검색 대상(ALL/TITLE/COMPANY)으로 검색 조건과 관련도 정렬을 만듭니다.
+     * <p>
+     * 검색어를 2-gram 토큰으로 나눠, 토큰을 모두 가진 공고 제목/기업을 검색 색인(job_search_tokens)에서 찾습니다. 정규화 후 한 글자인 검색어는 토큰을 만들 수
+     * 없으므로 기존처럼 LIKE로 검색합니다. 이때 기업명은 조인한 기업(company)에서 비교하므로, 조회 쿼리는 기업을 left join 해야 합니다.
+     * <p>
+     * 관련도 정렬은 제목과 기업명을 함께 검색하는 ALL에서만 만듭니다. TITLE/COMPANY는 조건을 만족한 공고의 관련도가 모두 같으므로 정렬하지 않습니다. ALL의
+     * 관련도 식은 WHERE와 같은 토큰 서브쿼리를 다시 사용하지만, 상관 관계가 없는 서브쿼리라 MySQL은 각각을 쿼리당 한 번만 실체화(materialize)합니다.
+     * (JobRepositoryQueryPlanTest에서 DEPENDENT SUBQUERY가 없는지 확인)
+     */
+    private Optional<KeywordCondition> keywordCondition(JobFilterKey filter) {
+        return Optional.ofNullable(filter.searchKeyword())
+                .map(keyword -> {
+                    Set<String> tokens = NgramTokenizer.bigrams(keyword);
 
-                    BooleanExpression companySearchCondition = job.company.name.containsIgnoreCase(keyword);
-                    BooleanExpression titleSearchCondition = job.title.containsIgnoreCase(keyword);
+                    BooleanExpression titleSearchCondition;
+                    BooleanExpression companySearchCondition;
+                    boolean joinsCompany = tokens.isEmpty();
+                    if (joinsCompany) {
+                        titleSearchCondition = job.title.containsIgnoreCase(keyword);
+                        companySearchCondition = company.name.containsIgnoreCase(keyword);
+                    } else {
+                        titleSearchCondition = job.id.in(ownersHavingAllTokens(JobSearchField.TITLE, tokens));
+                        companySearchCondition = job.company.id.in(ownersHavingAllTokens(JobSearchField.COMPANY, tokens));
+                    }
 
-                    switch (type) {
+                    switch (filter.searchType()) {
                         case "COMPANY":
-                            builder.and(companySearchCondition);
-                            break;
+                            return new KeywordCondition(companySearchCondition, null, joinsCompany);
                         case "TITLE":
-                            builder.and(titleSearchCondition);
-                            break;
+                            return new KeywordCondition(titleSearchCondition, null, false);
                         case "ALL":
                         default:
                             // 회사명 또는 채용 제목에서 검색
-                            builder.and(companySearchCondition.or(titleSearchCondition));
-                            break;
+                            return new KeywordCondition(companySearchCondition.or(titleSearchCondition),
+                                    relevance(titleSearchCondition, companySearchCondition), joinsCompany);
                     }
                 });
+    }
 
-        return builder;
+    /**
+     * 검색어의 토큰을 모두 가진 대상(공고 또는 기업) ID 서브쿼리. (field, token, owner_id) 인덱스만으로 처리됩니다.
+     */
+    private JPQLQuery<Long> ownersHavingAllTokens(JobSearchField field, Set<String> tokens) {
+        return JPAExpressions
+                .select(searchToken.ownerId)
+                .from(searchToken)
+                .where(searchToken.field.eq(field), searchToken.token.in(tokens))
+                .groupBy(searchToken.ownerId)
+                .having(searchToken.token.countDistinct().eq((long) tokens.size()));
+    }
+
+    /**
+     * 제목 일치(TITLE_WEIGHT)와 기업명 일치(COMPANY_WEIGHT) 점수의 합으로 관련도 내림차순 정렬을 만듭니다.
+     */
+    private OrderSpecifier<Integer> relevance(BooleanExpression titleMatch, BooleanExpression companyMatch) {
+        return Expressions.numberTemplate(Integer.class,
+                "case when {0} then " + TITLE_WEIGHT + " else 0 end + case when {1} then " + COMPANY_WEIGHT
+                        + " else 0 end", titleMatch, companyMatch).desc();
+    }
+
+    /**
+     * 검색어 조건과 관련도 정렬 (관련도 정렬은 ALL 검색에서만 존재, 없으면 null)
+     *
+     * @param joinsCompany 조건이 조인한 기업(company)의 컬럼을 사용하는지 여부
+     */
+    private record KeywordCondition(BooleanExpression predicate, OrderSpecifier<Integer> relevance,
+                                    boolean joinsCompany) {
     }
 }
\ No newline at end of file
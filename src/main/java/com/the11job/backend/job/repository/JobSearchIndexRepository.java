@@ -0,0 +1,117 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.entity.JobSearchField;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 색인(job_search_tokens) 갱신 전용 JDBC Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobSearchIndexRepository {
+
+    private static final String DELETE_BY_OWNERS =
+            "DELETE FROM job_search_tokens WHERE search_field = :field AND owner_id IN (:ownerIds)";
+
+    private static final String INSERT_TOKEN =
+            "INSERT INTO job_search_tokens (search_field, owner_id, token) VALUES (:field, :ownerId, :token)";
+
+    private static final String SELECT_INDEXED_OWNERS =
+            "SELECT DISTINCT owner_id FROM job_search_tokens WHERE search_field = :field AND owner_id IN (:ownerIds)";
+
+    private static final String DELETE_ORPHAN_TITLES =
+            "DELETE FROM job_search_tokens WHERE search_field = :field AND owner_id IN (:ownerIds) "
+                    + "AND owner_id NOT IN (SELECT id FROM jobs WHERE id IN (:ownerIds))";
+
+    private static final String SELECT_ANY_TOKEN = "SELECT id FROM job_search_tokens LIMIT 1";
+
+    private static final String SELECT_JOB_TITLES = "SELECT id, title FROM jobs";
+
+    private static final String SELECT_COMPANY_NAMES = "SELECT id, name FROM companies";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 대상별 토큰을 모두 지우고 새 토큰으로 다시 저장합니다.
+     *
+     * @param tokensByOwner 대상 ID -> 토큰 목록
+     */
+    public void replaceTokens(JobSearchField field, Map<Long, Set<String>> tokensByOwner) {
+        if (tokensByOwner.isEmpty()) {
+            return;
+        }
+
+        deleteTokens(field, tokensByOwner.keySet());
+
+        List<SqlParameterSource> params = new ArrayList<>();
+        tokensByOwner.forEach((ownerId, tokens) -> tokens.forEach(token -> params.add(new MapSqlParameterSource()
+                .addValue("field", field.name())
+                .addValue("ownerId", ownerId)
+                .addValue("token", token))));
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN, params.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    public void deleteTokens(JobSearchField field, Collection<Long> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_BY_OWNERS, Map.of("field", field.name(), "ownerIds", ownerIds));
+    }
+
+    /**
+     * 지정한 공고 중 jobs 테이블에서 삭제된 공고의 제목 토큰만 지웁니다.
+     */
+    public void deleteOrphanTitleTokens(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_ORPHAN_TITLES, Map.of("field", JobSearchField.TITLE.name(), "ownerIds", jobIds));
+    }
+
+    /**
+     * 대상 ID 중 이미 색인된 대상을 조회합니다.
+     */
+    public Set<Long> findIndexedOwnerIds(JobSearchField field, Collection<Long> ownerIds) {
+        Set<Long> indexed = new HashSet<>();
+        if (ownerIds.isEmpty()) {
+            return indexed;
+        }
+        jdbcTemplate.query(SELECT_INDEXED_OWNERS, Map.of("field", field.name(), "ownerIds", ownerIds),
+                (RowCallbackHandler) rs -> indexed.add(rs.getLong("owner_id")));
+        return indexed;
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList(SELECT_ANY_TOKEN, Map.of(), Long.class).isEmpty();
+    }
+
+    /**
+     * 모든 공고의 (ID, 제목)을 한 행씩 전달합니다. (색인 재구축용)
+     */
+    public void forEachJobTitle(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(SELECT_JOB_TITLES, Map.of(),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("id"), rs.getString("title")));
+    }
+
+    /**
+     * 모든 기업의 (ID, 기업명)을 한 행씩 전달합니다. (색인 재구축용)
+     */
+    public void forEachCompanyName(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query(SELECT_COMPANY_NAMES, Map.of(),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong("id"), rs.getString("name")));
+    }
+}
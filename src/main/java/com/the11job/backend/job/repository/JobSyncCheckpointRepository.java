@@ -0,0 +1,12 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.entity.JobSyncCheckpoint;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobSyncCheckpointRepository extends JpaRepository<JobSyncCheckpoint, Long> {
+
+    Optional<JobSyncCheckpoint> findBySyncKey(String syncKey);
+}
@@ -0,0 +1,15 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.entity.JobSyncRun;
+import com.the11job.backend.job.entity.JobSyncRunStatus;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobSyncRunRepository extends JpaRepository<JobSyncRun, Long> {
+
+    // 가장 최근에 시작된, 지정한 상태의 실행
+    Optional<JobSyncRun> findFirstByStatusInOrderByIdDesc(Collection<JobSyncRunStatus> statuses);
+}
@@ -0,0 +1,14 @@
+package com.the11job.backend.job.repository;
+
+import com.the11job.backend.job.entity.JobSyncWindow;
+import com.the11job.backend.job.entity.JobSyncWindowStatus;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobSyncWindowRepository extends JpaRepository<JobSyncWindow, Long> {
+
+    // 실행의 미완료 구간을 시작 인덱스 순으로 조회
+    List<JobSyncWindow> findByRunIdAndStatusNotOrderByStartIndexAsc(Long runId, JobSyncWindowStatus status);
+}
@@ -0,0 +1,144 @@
+package com.the11job.backend.job.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 동기화가 겹쳐 실행되지 않도록 하는 단일 실행(single-flight) 잠금
+ * <p>
+ * 같은 서버 안에서는 ReentrantLock으로, 여러 서버(pod) 사이에서는 Redis 키(SET NX + 만료 시간)로 한 번에 하나의 실행만 허용합니다. Redis에 접근할 수 없으면 서버 안의
+ * 잠금만으로 진행합니다.
+ * <p>
+ * 잠금을 잡고 있는 동안 만료 시간의 1/3마다 만료 시간을 연장하므로, 작업이 만료 시간보다 오래 걸려도 잠금을 잃지 않습니다. 서버가 죽으면 연장이 멈춰 만료 시간 뒤에 다른
+ * 서버가 잠금을 얻을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class JobSyncLock {
+
+    private static final String LOCK_KEY = "JOB_SYNC_LOCK";
+
+    // 내가 잡은 잠금일 때만 해제 (다른 서버의 잠금을 지우지 않도록 값 비교 후 삭제)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 내가 잡은 잠금일 때만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReentrantLock localLock = new ReentrantLock();
+    // 잠금 연장 전용 스레드 (작업 스케줄러 스레드가 모두 사용 중이어도 연장되도록 분리)
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-sync-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 잠금 유지 시간: 실행 중 서버가 죽어도 이 시간이 지나면 다른 서버가 실행할 수 있음 (실행 중에는 계속 연장)
+    @Value("${job.sync.lock-ttl:PT5M}")
+    private Duration lockTtl;
+
+    public JobSyncLock(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행합니다.
+     *
+     * @return 작업을 실행했으면 true, 이미 다른 실행이 진행 중이면 false
+     */
+    public boolean runExclusively(Runnable task) {
+        if (!localLock.tryLock()) {
+            return false;
+        }
+
+        try {
+            String owner = UUID.randomUUID().toString();
+            DistributedLockState state = acquireDistributedLock(owner);
+            if (state == DistributedLockState.BUSY) {
+                return false;
+            }
+
+            // Redis 잠금을 잡은 경우에만 연장/해제
+            ScheduledFuture<?> renewal = state == DistributedLockState.ACQUIRED ? scheduleRenewal(owner) : null;
+            try {
+                task.run();
+                return true;
+            } finally {
+                if (renewal != null) {
+                    renewal.cancel(false);
+                    releaseDistributedLock(owner);
+                }
+            }
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private DistributedLockState acquireDistributedLock(String owner) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl))
+                    ? DistributedLockState.ACQUIRED
+                    : DistributedLockState.BUSY;
+        } catch (RuntimeException e) {
+            log.warn("Redis 동기화 잠금을 확인할 수 없어 서버 내 잠금만으로 진행합니다: {}", e.getMessage());
+            return DistributedLockState.UNAVAILABLE;
+        }
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String owner) {
+        long intervalMillis = Math.max(1L, lockTtl.toMillis() / 3);
+        return renewalExecutor.scheduleAtFixedRate(() -> renewDistributedLock(owner),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewDistributedLock(String owner) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY), owner,
+                    String.valueOf(lockTtl.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                // 연장 전에 만료되었거나(Redis 장애 등) 다른 서버가 잡은 경우: 진행 중인 작업은 멈출 수 없으므로 기록만 남김
+                log.error("Redis 동기화 잠금을 잃었습니다. 다른 서버의 실행과 겹칠 수 있습니다.");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis 동기화 잠금 연장 실패. 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    private void releaseDistributedLock(String owner) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        } catch (RuntimeException e) {
+            log.warn("Redis 동기화 잠금 해제 실패. 만료 시간 이후 자동 해제됩니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 잠금 획득 결과 (획득, 다른 서버가 사용 중, Redis 접근 불가)
+     */
+    private enum DistributedLockState {
+        ACQUIRED, BUSY, UNAVAILABLE
+    }
+}
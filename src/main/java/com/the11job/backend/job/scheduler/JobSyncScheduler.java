@@ -0,0 +1,112 @@
+package com.the11job.backend.job.scheduler;
+
+import com.the11job.backend.job.service.JobBatchService;
+import com.the11job.backend.job.service.JobCatalogGeneration;
+import com.the11job.backend.job.service.JobFacetIndex;
+import com.the11job.backend.job.service.JobLifecycleService;
+import com.the11job.backend.job.service.JobSyncCheckpointService;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서울시 채용 정보 동기화를 백그라운드에서 주기적으로 실행하는 스케줄러
+ * <p>
+ * 애플리케이션 시작 과정에서 동기화를 기다리지 않으므로, 동기화 진행 여부와 관계없이 시작 직후부터 요청을 처리할 수 있습니다(readiness). 실행은 JobSyncLock으로 서버
+ * 안팎에서 겹치지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSyncScheduler {
+
+    private final JobBatchService jobBatchService;
+    private final JobLifecycleService jobLifecycleService;
+    private final JobCatalogGeneration catalogGeneration;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobSyncCheckpointService checkpointService;
+    private final JobSyncLock jobSyncLock;
+    private final TaskScheduler taskScheduler;
+
+    // 아직 한 번도 동기화를 완료하지 않은 경우 시작 직후 백그라운드로 최초 적재
+    @Value("${job.sync.run-on-startup:true}")
+    private boolean runOnStartup;
+
+    /**
+     * 주기 동기화 (기본: 매일 04:00, 설정값 "-"이면 비활성화)
+     */
+    @Scheduled(cron = "${job.sync.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void runScheduledSync() {
+        runSync("정기");
+    }
+
+    /**
+     * 보존 기간이 지난 마감 공고 정리 (기본: 매일 05:30, 설정값 "-"이면 비활성화)
+     * <p>
+     * 동기화와 같은 잠금 안에서 실행하여, 여러 서버가 동시에 정리하거나 정리가 진행 중인 동기화와 겹치지 않게 합니다.
+     */
+    @Scheduled(cron = "${job.purge.cron:0 30 5 * * *}", zone = "Asia/Seoul")
+    public void runScheduledPurge() {
+        try {
+            boolean executed = jobSyncLock.runExclusively(() -> {
+                if (jobLifecycleService.purgeClosed() > 0) {
+                    catalogGeneration.bump();
+                }
+            });
+            if (!executed) {
+                log.info("--- [정리] 다른 서버의 정리나 동기화가 진행 중이어서 건너뜁니다 ---");
+            }
+        } catch (RuntimeException e) {
+            log.error("--- [정리] 마감 공고 정리 중 오류 발생 ---", e);
+        }
+    }
+
+    /**
+     * 시작이 끝난 뒤, 완료된 동기화 기록이 없을 때만 최초 적재를 예약합니다. 재시작이나 롤링 배포 때마다 전체 수집이 일어나지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleInitialSync() {
+        if (!runOnStartup) {
+            return;
+        }
+
+        boolean hasCompletedSync = checkpointService.findCheckpoint()
+                .map(checkpoint -> checkpoint.getLastCompletedAt() != null)
+                .orElse(false);
+        if (hasCompletedSync) {
+            log.info("완료된 채용 정보 동기화 기록이 있어 시작 시 적재를 건너뜁니다.");
+            return;
+        }
+
+        taskScheduler.schedule(() -> runSync("최초"), Instant.now());
+    }
+
+    private void runSync(String trigger) {
+        log.info("--- [{} 동기화] 채용 정보 동기화 요청 ---", trigger);
+        try {
+            boolean executed = jobSyncLock.runExclusively(() -> {
+                try {
+                    jobBatchService.fetchAllJobPostings();
+                } finally {
+                    // 중간에 실패해도 이미 커밋된 청크가 있을 수 있으므로 항상 조회 캐시 세대를 올림
+                    catalogGeneration.bump();
+                }
+            });
+            if (!executed) {
+                log.info("--- [{} 동기화] 다른 동기화가 진행 중이어서 건너뜁니다 ---", trigger);
+                return;
+            }
+            // 적재 직후 첫 요청이 기다리지 않도록 필터 항목 색인을 미리 생성 (다른 서버는 첫 요청 시 생성)
+            jobFacetIndex.refresh();
+        } catch (RuntimeException e) {
+            // 예약 작업 스레드가 예외로 중단되지 않도록 기록만 하고 다음 주기에 다시 시도
+            log.error("--- [{} 동기화] 채용 정보 동기화 중 오류 발생 ---", trigger, e);
+        }
+    }
+}
@@ -3,11 +3,31 @@ package com.the11job.backend.job.service;
 import com.the11job.backend.api.exception.ApiClientException;
 import com.the11job.backend.api.seouljob.SeoulJobApiClient;
 import com.the11job.backend.api.seouljob.SeoulJobInfo;
+import com.the11job.backend.company.service.CompanyResolutionCache;
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.job.entity.JobSyncMode;
+import com.the11job.backend.job.entity.JobSyncRun;
+import com.the11job.backend.job.entity.JobSyncRunStatus;
+import com.the11job.backend.job.entity.JobSyncWindow;
+import com.the11job.backend.job.metrics.JobIngestMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 @Service
 @RequiredArgsConstructor
@@ -16,89 +36,332 @@ public class JobBatchService {
 
     private final SeoulJobApiClient apiClient;
     private final JobSaverService jobSaverService; // JobSaverService는 트랜잭션 분리 및 저장을 담당
+    private final CompanyResolutionCache companyResolutionCache;
+    private final JobSyncCheckpointService checkpointService;
+    private final JobLifecycleService jobLifecycleService;
+    private final JobSyncRunService jobSyncRunService;
+    private final JobIngestMetrics jobIngestMetrics;
+    private final JobSearchIndexService jobSearchIndexService;
 
     // API 호출 관련 상수: 1회 호출 시 최대 건수 1,000건으로 설정
     private static final int MAX_RECORDS_PER_CALL = 1000;
     // 호출 횟수 제한은 없으나, 무한 루프 방지를 위한 안전 장치로 임시 제한 설정
     private static final int MAX_DAILY_CALLS = 10000; // 충분히 큰 값
 
+    // 동시에 진행할 수 있는 최대 API 호출 수 (1로 설정하면 기존과 같은 직렬 호출)
+    @Value("${api.seoul.job.fetch.concurrency:4}")
+    private int fetchConcurrency;
+
+    // 초당 시작할 수 있는 API 호출 수 (0 이하이면 제한 없음)
+    @Value("${api.seoul.job.fetch.rate-per-second:2}")
+    private double fetchRatePerSecond;
+
+    // 통신 오류 시 구간별 최대 재시도 횟수와 지수 백오프 간격
+    @Value("${api.seoul.job.fetch.retry.max-retries:3}")
+    private int fetchMaxRetries;
+
+    @Value("${api.seoul.job.fetch.retry.min-backoff:PT1S}")
+    private Duration fetchRetryMinBackoff;
+
+    @Value("${api.seoul.job.fetch.retry.max-backoff:PT30S}")
+    private Duration fetchRetryMaxBackoff;
+
+    // 한 번에 저장하는 최대 row 수 (구간 응답을 이 크기로 나눠 저장하여 메모리 사용량을 구간 크기와 무관하게 유지)
+    @Value("${job.sync.save-chunk-size:200}")
+    private int saveChunkSize;
+
+    // 기본 동기화 방식 (INCREMENTAL: 바뀐 공고만 기록, FULL: 모든 공고 재기록)
+    @Value("${job.sync.mode:INCREMENTAL}")
+    private JobSyncMode defaultSyncMode;
+
     /**
-     * 서울시 채용 정보 API를 반복 호출하여 모든 데이터를 가져와 저장합니다.
+     * 설정된 기본 동기화 방식으로 전체 채용 정보를 동기화합니다.
      */
     public void fetchAllJobPostings() {
-        log.info("=== [배치 시작] 서울시 채용 정보 전체 가져오기 시작 (최대 {}건 단위) ===", MAX_RECORDS_PER_CALL);
-
-        int totalCount = 0;
-        int currentCallCount = 0;
-        int totalProcessedRecords = 0;
-        boolean hasMoreData = true;
+        fetchAllJobPostings(defaultSyncMode);
+    }
 
-        while (hasMoreData && currentCallCount < MAX_DAILY_CALLS) {
+    /**
+     * 서울시 채용 정보 API를 호출하여 모든 데이터를 가져와 저장합니다.
+     * <p>
+     * 첫 호출로 list_total_count를 확인한 뒤 [start, end] 구간을 미리 계획하여 실행 기록(JobSyncRun)과 함께 저장하고, 구간별 호출은 동시성 제한과 호출 속도 제한
+     * 안에서 병렬로 진행합니다. 응답은 구간 전체를 모으지 않고 청크 단위로 저장 단계에 넘기며, 저장 단계는 도착한 청크부터 순서대로 하나씩 처리하고 구간마다 처리 상태를 기록합니다.
+     * <p>
+     * 이전 실행이 실패했거나 중단되었다면 새로 계획하지 않고 완료되지 않은 구간만 이어서 처리합니다.
+     * <p>
+     * 서울시 API는 변경분 조회를 지원하지 않으므로 목록은 매번 전부 받되, 증분 모드에서는 내용 지문이 바뀐 공고만 기록하여 쓰기 비용을 변경량에 비례하게 합니다.
+     * <p>
+     * 한 번의 실행에서 모든 구간을 빠짐없이 받은 경우에만 이번 스냅샷에 없는 공고를 마감(CLOSED) 처리합니다.
+     *
+     * @param mode 동기화 방식
+     */
+    public void fetchAllJobPostings(JobSyncMode mode) {
+        log.info("=== [배치 시작] 서울시 채용 정보 전체 가져오기 시작 ({} 모드, 최대 {}건 단위, 동시 호출 {}개, 초당 {}회) ===",
+                mode, MAX_RECORDS_PER_CALL, fetchConcurrency, fetchRatePerSecond);
 
-            // API 호출을 위한 시작점과 끝점 계산
-            int startIndex = currentCallCount * MAX_RECORDS_PER_CALL + 1;
-            int endIndex = startIndex + MAX_RECORDS_PER_CALL - 1;
+        LocalDateTime startedAt = checkpointService.markStarted(mode);
+        Timer.Sample runSample = jobIngestMetrics.start();
 
-            Optional<SeoulJobInfo> jobInfoOptional;
+        // 조기 종료와 예외를 포함한 모든 경로에서 실행 결과(체크포인트)와 실행 시간을 기록
+        RunOutcome outcome;
+        try {
+            outcome = sync(mode);
+        } catch (RuntimeException e) {
             try {
-                log.info("API 호출 시도: {}-{}번째 데이터 (현재 호출 횟수: {}회)", startIndex, endIndex, currentCallCount + 1);
-                jobInfoOptional = apiClient.getJobInfo(startIndex, endIndex);
-
-                // API 호출 성공 시에만 횟수 증가
-                currentCallCount++;
-            } catch (ApiClientException e) {
-                log.error("API 호출 중 예외 발생. 배치를 중단합니다. 횟수: {}", currentCallCount, e);
-                break;
+                recordOutcome(startedAt, runSample, RunOutcome.failed(JobSaveResult.EMPTY, e.getMessage()));
+            } catch (RuntimeException recordFailure) {
+                e.addSuppressed(recordFailure);
             }
+            throw e;
+        }
+        recordOutcome(startedAt, runSample, outcome);
+    }
 
-            if (jobInfoOptional.isEmpty()) {
-                log.warn("API 응답이 비어있습니다. 데이터를 가져오지 못했습니다.");
-                break;
-            }
+    /**
+     * 실행 결과를 체크포인트와 지표에 기록합니다.
+     */
+    private void recordOutcome(LocalDateTime startedAt, Timer.Sample runSample, RunOutcome outcome) {
+        if (outcome.completed()) {
+            checkpointService.markCompleted(startedAt, outcome.totalCount(), outcome.result());
+        } else {
+            checkpointService.markFailed(startedAt, outcome.failureReason());
+        }
+        jobIngestMetrics.recordRun(runSample, outcome.result().processed(), outcome.completed());
+    }
 
-            SeoulJobInfo jobInfo = jobInfoOptional.get();
+    /**
+     * 동기화 본문. 체크포인트 기록은 호출한 쪽(fetchAllJobPostings)에서 결과에 따라 한 곳에서 처리합니다.
+     */
+    private RunOutcome sync(JobSyncMode mode) {
+        // 1. 첫 구간 호출: 전체 건수(list_total_count) 확정
+        Optional<SeoulJobInfo> firstPageOptional;
+        try {
+            log.info("API 호출 시도: 1-{}번째 데이터 (전체 건수 확인)", MAX_RECORDS_PER_CALL);
+            firstPageOptional = Mono.fromCallable(() -> apiClient.getJobInfo(1, MAX_RECORDS_PER_CALL))
+                    .retryWhen(fetchRetry())
+                    .block();
+        } catch (ApiClientException e) {
+            log.error("첫 API 호출 중 예외 발생. 배치를 중단합니다.", e);
+            return RunOutcome.failed(JobSaveResult.EMPTY, "첫 API 호출 실패: " + e.getMessage());
+        }
 
-            // 첫 호출 시에만 totalCount 확정
-            if (currentCallCount == 1) {
-                totalCount = parseTotalCount(jobInfo.getListTotalCount());
-                if (totalCount == 0) {
-                    log.info("총 채용 건수가 0입니다. 배치를 종료합니다.");
-                    break;
-                }
-            }
+        if (firstPageOptional == null || firstPageOptional.isEmpty()) {
+            log.warn("API 응답이 비어있습니다. 데이터를 가져오지 못했습니다.");
+            return RunOutcome.failed(JobSaveResult.EMPTY, "API 응답 없음");
+        }
+
+        SeoulJobInfo firstPage = firstPageOptional.get();
+        int totalCount = parseTotalCount(firstPage.getListTotalCount());
+        if (totalCount == 0) {
+            // 실제로 공고가 없는지 API 오류인지 구분할 수 없으므로 완료로 기록하지 않음 (스냅샷 마감 처리도 하지 않음)
+            log.info("총 채용 건수가 0입니다. 배치를 종료합니다.");
+            return RunOutcome.failed(JobSaveResult.EMPTY, "API 총 건수 0");
+        }
 
-            List<SeoulJobInfo.JobDetail> details = jobInfo.getJobDetails();
+        // 2. 미완료 실행을 이어받거나, 전체 구간을 새로 계획
+        Optional<JobSyncRun> resumedRun = jobSyncRunService.resumeUnfinishedRun(totalCount);
+        JobSyncRun run = resumedRun.orElseGet(() -> jobSyncRunService.startRun(planRun(mode, totalCount)));
+        List<JobSyncWindow> windows = jobSyncRunService.findUnfinishedWindows(run.getId());
+        boolean fullyPlanned = isFullyPlanned(windows, totalCount);
+        log.info("동기화 실행(ID: {}) {}: 처리할 구간 {}개", run.getId(), resumedRun.isPresent() ? "이어받기" : "시작",
+                windows.size());
 
-            if (details == null || details.isEmpty()) {
-                log.info("더 이상 가져올 데이터가 없습니다. (총 {}건 중 {}건 처리)", totalCount, totalProcessedRecords);
-                hasMoreData = false;
-                break;
-            }
+        // 기업명 -> ID 해석 캐시를 실행마다 한 번 적재하여, 행 단위 Company 조회를 없앰
+        companyResolutionCache.warmUp();
+        // 검색 색인이 없으면(최초 배포) 기존 데이터로 먼저 만들고, 이후에는 청크 저장과 함께 갱신
+        jobSearchIndexService.rebuildIfEmpty();
+
+        // 이번 스냅샷에서 확인한 공고 ID (마감 처리 대상 판별용)
+        Set<String> seenRequestNos = ConcurrentHashMap.newKeySet();
+        JobSaveResult result = JobSaveResult.EMPTY;
 
-            // 🌟 JobSaverService를 통해 트랜잭션 처리된 DB 저장 로직 호출 🌟
-            int recordsInThisCall = jobSaverService.processAndSaveData(details);
-            totalProcessedRecords += recordsInThisCall;
-
-            // 다음 호출 판단
-            if (totalProcessedRecords >= totalCount) {
-                log.info("총 {}건의 데이터 처리를 완료했습니다. 배치를 종료합니다.", totalCount);
-                hasMoreData = false;
-            } else if (currentCallCount >= MAX_DAILY_CALLS) {
-                log.warn("일일 최대 호출 횟수({})에 도달하여 배치를 중단합니다. (총 {}건 중 {}건 처리)",
-                        MAX_DAILY_CALLS, totalCount, totalProcessedRecords);
-                hasMoreData = false;
+        // 첫 구간이 아직 처리되지 않았다면 이미 받은 응답으로 저장
+        List<JobSyncWindow> remainingWindows = new ArrayList<>(windows);
+        if (!remainingWindows.isEmpty() && remainingWindows.getFirst().getStartIndex() == 1) {
+            result = saveFirstWindow(remainingWindows.removeFirst(), firstPage, mode, seenRequestNos);
+        }
+
+        // 3. 구간별 호출은 병렬로, 저장은 도착한 청크부터 하나씩 처리
+        AtomicInteger failedWindows = new AtomicInteger();
+        JobSaveResult windowsResult = Flux.fromIterable(remainingWindows)
+                .transform(this::limitRate)
+                // 구간 하나가 미리 받아 둘 수 있는 청크는 1개로 제한 (나머지 응답은 소켓에서 대기)
+                .flatMap(window -> fetchWindow(window, failedWindows), Math.max(1, fetchConcurrency), 1)
+                // 저장 단계는 단일 워커에서 순차 실행하며, 대기 중인 청크 수를 동시 호출 수로 제한
+                .publishOn(Schedulers.boundedElastic(), Math.max(1, fetchConcurrency))
+                .map(chunk -> saveChunk(chunk, mode, seenRequestNos))
+                .reduce(JobSaveResult.EMPTY, JobSaveResult::plus)
+                .block();
+
+        result = result.plus(Optional.ofNullable(windowsResult).orElse(JobSaveResult.EMPTY));
+
+        if (failedWindows.get() > 0) {
+            jobSyncRunService.finishRun(run.getId(), JobSyncRunStatus.FAILED, result);
+            log.warn("재시도 후에도 실패한 구간이 {}개 있습니다. 다음 실행에서 이 구간부터 이어서 처리합니다. (총 {}건 중 {}건 처리)",
+                    failedWindows.get(), totalCount, result.processed());
+        } else {
+            jobSyncRunService.finishRun(run.getId(), JobSyncRunStatus.COMPLETED, result);
+            if (resumedRun.isEmpty() && fullyPlanned) {
+                jobLifecycleService.closeUnseen(seenRequestNos);
             } else {
-                try {
-                    // 서버 부하 방지 및 API 사용 매너를 위해 대기
-                    Thread.sleep(1000);
-                } catch (InterruptedException ignored) {
-                    Thread.currentThread().interrupt();
-                }
+                log.info("이어받은 실행이거나 일부 구간만 계획된 실행이어서 스냅샷 기준 마감 처리를 건너뜁니다.");
             }
         }
+        // 마감일 기준 마감 처리는 스냅샷 완결 여부와 관계없이 진행
+        jobLifecycleService.closeExpired();
+
+        log.info("=== [배치 완료] 최종 처리 레코드: {}건 (API 총 {}건) - 신규 {}건, 갱신 {}건, 변경 없음 {}건 ===",
+                result.processed(), totalCount, result.inserted(), result.updated(), result.unchanged());
+        return failedWindows.get() > 0
+                ? RunOutcome.failed(result, "실패한 구간 " + failedWindows.get() + "개")
+                : RunOutcome.completed(totalCount, result);
+    }
+
+    /**
+     * 전체 [start, end] 구간을 계산하여 새 실행을 만듭니다. 일일 최대 호출 횟수를 넘지 않도록 제한합니다.
+     */
+    private JobSyncRun planRun(JobSyncMode mode, int totalCount) {
+        int totalWindows = (totalCount + MAX_RECORDS_PER_CALL - 1) / MAX_RECORDS_PER_CALL;
+        if (totalWindows > MAX_DAILY_CALLS) {
+            log.warn("일일 최대 호출 횟수({})를 넘는 구간은 호출하지 않습니다. (필요 구간: {}개)", MAX_DAILY_CALLS, totalWindows);
+            totalWindows = MAX_DAILY_CALLS;
+        }
+
+        JobSyncRun run = new JobSyncRun(mode, totalCount, LocalDateTime.now());
+        for (int call = 0; call < totalWindows; call++) {
+            int startIndex = call * MAX_RECORDS_PER_CALL + 1;
+            int endIndex = Math.min(startIndex + MAX_RECORDS_PER_CALL - 1, totalCount);
+            run.addWindow(startIndex, endIndex);
+        }
+        return run;
+    }
+
+    /**
+     * 처리할 구간이 전체 건수의 끝까지 계획되어 있는지 확인합니다. (일일 최대 호출 횟수로 잘린 경우 false)
+     */
+    private boolean isFullyPlanned(List<JobSyncWindow> windows, int totalCount) {
+        return !windows.isEmpty() && windows.getLast().getEndIndex() >= totalCount;
+    }
+
+    /**
+     * 설정된 초당 호출 수에 맞춰 구간 방출 간격을 벌립니다. (서버 부하 방지 및 API 사용 매너)
+     */
+    private Flux<JobSyncWindow> limitRate(Flux<JobSyncWindow> windows) {
+        if (fetchRatePerSecond <= 0) {
+            return windows;
+        }
+        long intervalMillis = Math.max(1L, Math.round(1000 / fetchRatePerSecond));
+        return windows.delayElements(Duration.ofMillis(intervalMillis));
+    }
 
-        log.info("=== [배치 완료] 최종 처리 레코드: {}건 (API 총 {}건) ===",
-                totalProcessedRecords, totalCount);
+    /**
+     * 한 구간의 row를 스트리밍으로 받아 saveChunkSize 단위 청크로 흘려보내고, 구간이 끝나면 완료 표시를 보냅니다. 구간 전체를 메모리에 모으지 않으므로 구간 크기와
+     * 관계없이 한 번에 올라가는 row 수는 청크 크기 x 대기 청크 수로 제한됩니다.
+     * <p>
+     * 구간 단위로 지수 백오프 재시도하며, 재시도 후에도 실패한 구간은 실패로 기록한 뒤 건너뜁니다. 재시도는 구간의 처음부터 다시 받으므로 앞선 시도에서 저장한 청크가 다시
+     * 저장될 수 있지만, 저장은 requestNo 기준 upsert이므로 결과는 같습니다. (증분 모드에서는 변경 없음으로 집계) 호출 시간에는 저장 단계를 기다린 시간도 포함됩니다.
+     */
+    private Flux<WindowChunk> fetchWindow(JobSyncWindow window, AtomicInteger failedWindows) {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+        AtomicReference<Timer.Sample> fetchSample = new AtomicReference<>();
+        return apiClient.streamJobDetails(window.getStartIndex(), window.getEndIndex())
+                .buffer(Math.max(1, saveChunkSize))
+                .doOnSubscribe(subscription -> {
+                    attempts.incrementAndGet();
+                    rows.set(0);
+                    // 재시도마다 새로 측정하여 마지막 시도의 호출 시간을 기록
+                    fetchSample.set(jobIngestMetrics.start());
+                    log.info("API 호출 시도: {}-{}번째 데이터", window.getStartIndex(), window.getEndIndex());
+                })
+                .map(details -> {
+                    rows.addAndGet(details.size());
+                    return WindowChunk.rows(window, details);
+                })
+                .retryWhen(fetchRetry())
+                .concatWith(Mono.fromSupplier(() -> {
+                    jobIngestMetrics.recordFetch(fetchSample.get(), true);
+                    return WindowChunk.end(window, attempts.get(), rows.get());
+                }))
+                .onErrorResume(e -> {
+                    if (fetchSample.get() != null) {
+                        jobIngestMetrics.recordFetch(fetchSample.get(), false);
+                    }
+                    log.error("API 호출 중 예외 발생. {}-{} 구간을 건너뜁니다. (시도 {}회)",
+                            window.getStartIndex(), window.getEndIndex(), attempts.get(), e);
+                    failedWindows.incrementAndGet();
+                    return Mono.fromRunnable(
+                                    () -> jobSyncRunService.markWindowFailed(window.getId(), attempts.get(), e.getMessage()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.<WindowChunk>empty());
+                });
+    }
+
+    /**
+     * 통신 오류만 지수 백오프(지터 포함)로 재시도합니다. 파싱 오류는 다시 호출해도 같은 결과이므로 재시도하지 않습니다.
+     */
+    private Retry fetchRetry() {
+        return Retry.backoff(fetchMaxRetries, fetchRetryMinBackoff)
+                .maxBackoff(fetchRetryMaxBackoff)
+                .filter(e -> !isParsingError(e))
+                .doBeforeRetry(signal -> {
+                    jobIngestMetrics.recordRetry();
+                    log.warn("API 호출 재시도 {}회차: {}", signal.totalRetries() + 1, signal.failure().getMessage());
+                })
+                // 재시도 소진 시 RetryExhaustedException 대신 마지막 원인 예외를 그대로 전달
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 첫 호출로 이미 받은 첫 구간을 청크 단위로 저장하고 완료로 기록합니다.
+     */
+    private JobSaveResult saveFirstWindow(JobSyncWindow window, SeoulJobInfo firstPage, JobSyncMode mode,
+                                          Set<String> seenRequestNos) {
+        List<SeoulJobInfo.JobDetail> details =
+                firstPage.getJobDetails() == null ? List.of() : firstPage.getJobDetails();
+        int chunkSize = Math.max(1, saveChunkSize);
+        JobSaveResult result = JobSaveResult.EMPTY;
+        for (int from = 0; from < details.size(); from += chunkSize) {
+            result = result.plus(saveDetails(details.subList(from, Math.min(from + chunkSize, details.size())), mode,
+                    seenRequestNos));
+        }
+        jobSyncRunService.markWindowCompleted(window.getId(), 1, details.size());
+        return result;
+    }
+
+    /**
+     * 청크는 저장하고, 구간 완료 표시를 받으면 구간을 완료로 기록합니다.
+     */
+    private JobSaveResult saveChunk(WindowChunk chunk, JobSyncMode mode, Set<String> seenRequestNos) {
+        if (chunk.end()) {
+            jobSyncRunService.markWindowCompleted(chunk.window().getId(), chunk.attempts(), chunk.rowCount());
+            return JobSaveResult.EMPTY;
+        }
+        return saveDetails(chunk.details(), mode, seenRequestNos);
+    }
+
+    /**
+     * 🌟 JobSaverService를 통해 트랜잭션 처리된 DB 저장 로직 호출 🌟
+     */
+    private JobSaveResult saveDetails(List<SeoulJobInfo.JobDetail> details, JobSyncMode mode,
+                                      Set<String> seenRequestNos) {
+        Timer.Sample chunkSample = jobIngestMetrics.start();
+        JobSaveResult result = details.isEmpty()
+                ? JobSaveResult.EMPTY
+                : jobSaverService.processAndSaveData(details, mode);
+        jobIngestMetrics.recordChunk(chunkSample, result);
+
+        // 저장에 성공한 청크의 공고만 스냅샷에 포함
+        details.stream()
+                .map(SeoulJobInfo.JobDetail::getJoRequestNo)
+                .filter(requestNo -> requestNo != null && !requestNo.isBlank())
+                .forEach(seenRequestNos::add);
+        return result;
+    }
+
+    private boolean isParsingError(Throwable e) {
+        return e instanceof ApiClientException apiClientException
+                && apiClientException.getErrorCode() == ErrorCode.API_PARSING_ERROR;
     }
 
     private int parseTotalCount(String totalCountString) {
@@ -112,4 +375,33 @@ public class JobBatchService {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 구간 응답의 저장 단위. 구간의 row 청크이거나, 구간을 모두 받았다는 완료 표시(end)입니다.
+     */
+    private record WindowChunk(JobSyncWindow window, List<SeoulJobInfo.JobDetail> details, boolean end, int attempts,
+                               int rowCount) {
+
+        static WindowChunk rows(JobSyncWindow window, List<SeoulJobInfo.JobDetail> details) {
+            return new WindowChunk(window, details, false, 0, details.size());
+        }
+
+        static WindowChunk end(JobSyncWindow window, int attempts, int rowCount) {
+            return new WindowChunk(window, List.of(), true, attempts, rowCount);
+        }
+    }
+
+    /**
+     * 한 번의 실행 결과 (모든 구간 처리 여부, API 총 건수, 처리 결과, 실패 사유)
+     */
+    private record RunOutcome(boolean completed, int totalCount, JobSaveResult result, String failureReason) {
+
+        static RunOutcome completed(int totalCount, JobSaveResult result) {
+            return new RunOutcome(true, totalCount, result, null);
+        }
+
+        static RunOutcome failed(JobSaveResult result, String failureReason) {
+            return new RunOutcome(false, 0, result, failureReason);
+        }
+    }
+}
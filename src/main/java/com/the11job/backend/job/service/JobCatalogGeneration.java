@@ -0,0 +1,79 @@
+package com.the11job.backend.job.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 데이터의 세대(generation) 번호
+ * <p>
+ * 적재 실행이나 정리 작업이 데이터를 바꾸면 세대 번호를 올리고, 조회 캐시는 세대 번호를 키에 포함하여 이전 세대의 값을 읽지 않습니다. 세대 번호는 Redis에 두어 모든
+ * 서버가 공유하고, 요청마다 Redis를 읽지 않도록 refresh-interval 동안 서버 메모리의 값을 사용합니다. Redis에 접근할 수 없으면 서버 메모리의 값으로 동작합니다.
+ */
+@Slf4j
+@Component
+public class JobCatalogGeneration {
+
+    private static final String GENERATION_KEY = "JOB_CATALOG_GENERATION";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastRefreshNanos;
+    private volatile boolean refreshed;
+
+    // 다른 서버가 올린 세대 번호를 다시 읽는 주기
+    @Value("${job.catalog.generation.refresh-interval:PT5S}")
+    private Duration refreshInterval;
+
+    public JobCatalogGeneration(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 현재 세대 번호를 반환합니다.
+     */
+    public long current() {
+        long now = System.nanoTime();
+        if (!refreshed || now - lastRefreshNanos >= refreshInterval.toNanos()) {
+            refresh(now);
+        }
+        return generation.get();
+    }
+
+    /**
+     * 데이터가 바뀌었음을 알리고 세대 번호를 올립니다. 이전 세대로 캐시된 조회 결과는 더 이상 사용되지 않습니다.
+     */
+    public long bump() {
+        try {
+            Long next = redisTemplate.opsForValue().increment(GENERATION_KEY);
+            if (next != null) {
+                generation.accumulateAndGet(next, Math::max);
+                lastRefreshNanos = System.nanoTime();
+                refreshed = true;
+                log.info("채용 공고 데이터 세대 갱신: {}", next);
+                return generation.get();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis 세대 번호 갱신 실패. 서버 메모리의 세대 번호만 올립니다: {}", e.getMessage());
+        }
+        return generation.incrementAndGet();
+    }
+
+    private void refresh(long now) {
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+            if (value != null) {
+                generation.accumulateAndGet(Long.parseLong(value), Math::max);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis 세대 번호 조회 실패. 서버 메모리의 세대 번호를 사용합니다: {}", e.getMessage());
+        }
+        lastRefreshNanos = now;
+        refreshed = true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.the11job.backend.job.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경력 조건, 학력 조건, 직무명처럼 값의 종류가 적은 문자열을 하나의 인스턴스로 맞춰 주는 공유 사전
+ * <p>
+ * API row마다 새로 만들어지는 같은 내용의 String 대신 사전에 등록된 인스턴스를 사용하므로, 청크와 엔티티가 같은 값을 수천 번 중복 보관하지 않습니다. 예상보다 많은
+ * 종류가 들어오면(max-size 초과) 더 이상 등록하지 않고 입력값을 그대로 반환합니다.
+ */
+@Component
+public class JobCategoryDictionary {
+
+    private final Map<String, String> canonicalValues = new ConcurrentHashMap<>();
+
+    // 사전에 보관할 최대 값 종류 수
+    private final int maxSize;
+
+    public JobCategoryDictionary(@Value("${job.ingest.category-dictionary.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 같은 내용의 값이 이미 등록되어 있으면 그 인스턴스를, 없으면 입력값을 등록 후 반환합니다.
+     */
+    public String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String canonical = canonicalValues.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (canonicalValues.size() >= maxSize) {
+            return value;
+        }
+
+        canonical = canonicalValues.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    public int size() {
+        return canonicalValues.size();
+    }
+}
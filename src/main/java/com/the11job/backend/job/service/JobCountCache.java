@@ -0,0 +1,69 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.global.cache.BoundedCache;
+import com.the11job.backend.job.dto.JobFilterKey;
+import com.the11job.backend.job.dto.JobFilterRequest;
+import com.the11job.backend.job.entity.JobSyncCheckpoint;
+import com.the11job.backend.job.repository.JobRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 목록의 전체 개수(count) 캐시
+ * <p>
+ * 전체 개수는 적재 실행 사이에 거의 바뀌지 않으므로 정규화된 필터(JobFilterKey)별로 캐시하고, 데이터 세대(JobCatalogGeneration)가 바뀌면 새로 계산합니다.
+ * 설정(estimate-unfiltered)을 켜면 조건 없는 목록은 count 쿼리 대신 마지막 완료 동기화의 API 총 건수를 추정치로 사용합니다.
+ */
+@Component
+public class JobCountCache {
+
+    private final JobRepository jobRepository;
+    private final JobCatalogGeneration catalogGeneration;
+    private final JobSyncCheckpointService checkpointService;
+    private final BoundedCache<CountKey, Long> counts;
+
+    // 조건 없는 목록의 전체 개수를 추정치로 대신할지 여부
+    @Value("${job.listing.count.estimate-unfiltered:false}")
+    private boolean estimateUnfiltered;
+
+    public JobCountCache(JobRepository jobRepository, JobCatalogGeneration catalogGeneration,
+                         JobSyncCheckpointService checkpointService,
+                         @Value("${job.listing.count.cache.max-size:10000}") int maxSize,
+                         @Value("${job.listing.count.cache.ttl:PT1H}") Duration ttl) {
+        this.jobRepository = jobRepository;
+        this.catalogGeneration = catalogGeneration;
+        this.checkpointService = checkpointService;
+        this.counts = new BoundedCache<>(maxSize, ttl);
+    }
+
+    /**
+     * 필터 조건에 맞는 공고 수를 캐시에서 찾고, 없으면 조회(또는 추정)하여 저장합니다.
+     */
+    public long getCount(JobFilterRequest request) {
+        JobFilterKey filter = JobFilterKey.of(request);
+        CountKey key = new CountKey(catalogGeneration.current(), filter);
+
+        return counts.get(key, () -> estimate(filter).orElseGet(() -> jobRepository.countJobsByFilter(request)));
+    }
+
+    /**
+     * 조건 없는 목록이면 마지막 완료 동기화의 API 총 건수(= 게시 중 공고 수의 근사값)를 반환합니다.
+     */
+    private Optional<Long> estimate(JobFilterKey filter) {
+        if (!estimateUnfiltered || !filter.isUnfiltered()) {
+            return Optional.empty();
+        }
+        return checkpointService.findCheckpoint()
+                .filter(checkpoint -> checkpoint.getLastCompletedAt() != null)
+                .map(JobSyncCheckpoint::getLastTotalCount)
+                .map(Integer::longValue);
+    }
+
+    /**
+     * 데이터 세대 + 정규화된 필터
+     */
+    private record CountKey(long generation, JobFilterKey filter) {
+    }
+}
@@ -0,0 +1,308 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.global.cache.BoundedCache;
+import com.the11job.backend.job.dto.JobFacet;
+import com.the11job.backend.job.dto.JobFacetCount;
+import com.the11job.backend.job.dto.JobFacetResponse;
+import com.the11job.backend.job.dto.JobFilterKey;
+import com.the11job.backend.job.dto.JobFilterRequest;
+import com.the11job.backend.job.entity.JobStatus;
+import com.the11job.backend.job.entity.Sido;
+import com.the11job.backend.job.repository.JobFacetRepository;
+import com.the11job.backend.job.repository.JobFacetRepository.FacetRow;
+import com.the11job.backend.job.repository.JobRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 필터 항목별 건수(facet) 색인
+ * <p>
+ * 데이터 세대(JobCatalogGeneration)마다 모든 공고의 필터 항목 값을 한 번 읽어 서버 메모리에 열(column) 형태로 보관합니다. 요청마다 필터 조건을 BitSet으로
+ * 만들어 교집합을 구하고, 남은 공고의 값만 세므로 요청마다 GROUP BY 쿼리를 실행하지 않습니다. 검색어처럼 색인으로 처리할 수 없는 조건만 ID 조회 쿼리를 사용하며, 그
+ * 결과(공고 위치 BitSet)는 세대와 조건별로 캐시합니다.
+ */
+@Slf4j
+@Component
+public class JobFacetIndex {
+
+    private static final Comparator<JobFacetCount> BY_COUNT_DESC =
+            Comparator.comparingLong(JobFacetCount::count).reversed().thenComparing(JobFacetCount::value);
+
+    private final JobFacetRepository jobFacetRepository;
+    private final JobRepository jobRepository;
+    private final JobCatalogGeneration catalogGeneration;
+    // (세대, 검색어/주소 조건) -> 조건에 맞는 공고 위치
+    private final BoundedCache<TextFilterKey, BitSet> textFilterPositions;
+
+    private volatile Snapshot snapshot;
+
+    public JobFacetIndex(JobFacetRepository jobFacetRepository, JobRepository jobRepository,
+                         JobCatalogGeneration catalogGeneration,
+                         @Value("${job.facet.text-filter-cache.max-size:256}") int textFilterCacheMaxSize,
+                         @Value("${job.facet.text-filter-cache.ttl:PT1H}") Duration textFilterCacheTtl) {
+        this.jobFacetRepository = jobFacetRepository;
+        this.jobRepository = jobRepository;
+        this.catalogGeneration = catalogGeneration;
+        this.textFilterPositions = new BoundedCache<>(textFilterCacheMaxSize, textFilterCacheTtl);
+    }
+
+    /**
+     * 현재 필터 조건에서 필터 항목 값별 공고 수를 계산합니다. 각 항목은 자신의 선택을 제외한 나머지 조건으로 셉니다.
+     */
+    public JobFacetResponse getFacets(JobFilterRequest request) {
+        JobFilterKey filter = JobFilterKey.of(request);
+        Snapshot current = currentSnapshot();
+
+        // 1. 항목과 관계없이 항상 적용하는 조건 (게시 상태, 검색어/주소 부분 일치)
+        BitSet base = current.statusScope(filter.includeClosed());
+        if (filter.searchKeyword() != null || filter.workLocation() != null) {
+            base.and(textFilterPositions(current, filter, request));
+        }
+
+        // 2. 항목별 선택 조건
+        Map<JobFacet, BitSet> selections = new EnumMap<>(JobFacet.class);
+        if (filter.careerConditionName() != null) {
+            selections.put(JobFacet.CAREER, current.select(JobFacet.CAREER,
+                    Set.of(filter.careerConditionName(), JobFilterKey.CAREER_IRRELEVANT)));
+        }
+        if (filter.sidoCode() != null) {
+            selections.put(JobFacet.SIDO, current.select(JobFacet.SIDO, Set.of(filter.sidoCode())));
+        }
+        if (filter.sigunguName() != null) {
+            selections.put(JobFacet.SIGUNGU, current.select(JobFacet.SIGUNGU, Set.of(filter.sigunguName())));
+        }
+
+        // 3. 항목마다 자신을 제외한 선택 조건을 적용해 값별 건수 집계
+        Map<JobFacet, List<JobFacetCount>> counts = new EnumMap<>(JobFacet.class);
+        for (JobFacet facet : JobFacet.values()) {
+            BitSet scope = (BitSet) base.clone();
+            selections.forEach((selected, bits) -> {
+                if (selected != facet) {
+                    scope.and(bits);
+                }
+            });
+            counts.put(facet, current.count(facet, scope));
+        }
+
+        BitSet matched = (BitSet) base.clone();
+        selections.values().forEach(matched::and);
+
+        return JobFacetResponse.builder()
+                .totalCount(matched.cardinality())
+                .careerName(counts.get(JobFacet.CAREER))
+                .academicName(counts.get(JobFacet.ACADEMIC))
+                .jobCodeName(counts.get(JobFacet.JOB_CODE))
+                .sido(counts.get(JobFacet.SIDO))
+                .sigungu(counts.get(JobFacet.SIGUNGU))
+                .build();
+    }
+
+    /**
+     * 검색어/주소 부분 일치 조건에 맞는 공고 위치. 같은 세대 안에서는 결과가 같으므로 ID 조회 쿼리는 조건마다 한 번만 실행합니다.
+     */
+    private BitSet textFilterPositions(Snapshot current, JobFilterKey filter, JobFilterRequest request) {
+        TextFilterKey key = new TextFilterKey(current.generation(), filter.workLocation(), filter.searchKeyword(),
+                filter.searchType());
+        return textFilterPositions.get(key,
+                () -> current.positionsOf(jobRepository.findJobIdsByTextFilter(request)));
+    }
+
+    /**
+     * 현재 세대로 색인을 다시 만듭니다. (적재 실행 직후 첫 요청이 색인 생성을 기다리지 않도록 미리 호출)
+     */
+    public void refresh() {
+        rebuild(catalogGeneration.current());
+    }
+
+    private Snapshot currentSnapshot() {
+        long generation = catalogGeneration.current();
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation) {
+            return current;
+        }
+        return rebuild(generation);
+    }
+
+    private synchronized Snapshot rebuild(long generation) {
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == generation) {
+            return current;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        SnapshotBuilder builder = new SnapshotBuilder();
+        jobFacetRepository.forEachFacetRow(builder::add);
+        Snapshot rebuilt = builder.build(generation);
+        snapshot = rebuilt;
+
+        log.info("채용 공고 필터 항목 색인 생성: 세대 {}, 공고 {}건, {}ms", generation, rebuilt.jobIds().length,
+                System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+
+    /**
+     * 한 세대의 색인. 공고는 ID 오름차순 위치(position)로 구분합니다.
+     *
+     * @param jobIds  위치 -> 공고 ID (오름차순)
+     * @param open    게시 중(OPEN) 공고 위치
+     * @param columns 항목별 값 열
+     */
+    private record Snapshot(long generation, long[] jobIds, BitSet open, Map<JobFacet, FacetColumn> columns) {
+
+        BitSet statusScope(boolean includeClosed) {
+            if (!includeClosed) {
+                return (BitSet) open.clone();
+            }
+            BitSet all = new BitSet(jobIds.length);
+            all.set(0, jobIds.length);
+            return all;
+        }
+
+        BitSet positionsOf(List<Long> ids) {
+            BitSet positions = new BitSet(jobIds.length);
+            for (Long id : ids) {
+                int position = Arrays.binarySearch(jobIds, id);
+                if (position >= 0) {
+                    positions.set(position);
+                }
+            }
+            return positions;
+        }
+
+        BitSet select(JobFacet facet, Set<String> values) {
+            return columns.get(facet).select(values);
+        }
+
+        List<JobFacetCount> count(JobFacet facet, BitSet scope) {
+            // 지원 자격은 선택한 값과 '무관'을 함께 조회하므로 '무관' 공고를 모든 값의 건수에 더함
+            String inclusiveValue = facet == JobFacet.CAREER ? JobFilterKey.CAREER_IRRELEVANT : null;
+            return columns.get(facet).count(facet, scope, inclusiveValue);
+        }
+    }
+
+    /**
+     * 항목 하나의 값 열. 위치마다 값 번호(ordinal)를 저장하고 값 문자열은 한 번만 보관합니다.
+     *
+     * @param values   값 번호 -> 값
+     * @param ordinals 위치 -> 값 번호 (값이 없으면 -1)
+     */
+    private record FacetColumn(String[] values, int[] ordinals) {
+
+        BitSet select(Set<String> selected) {
+            boolean[] matches = new boolean[values.length];
+            for (int i = 0; i < values.length; i++) {
+                matches[i] = selected.contains(values[i]);
+            }
+
+            BitSet bits = new BitSet(ordinals.length);
+            for (int position = 0; position < ordinals.length; position++) {
+                int ordinal = ordinals[position];
+                if (ordinal >= 0 && matches[ordinal]) {
+                    bits.set(position);
+                }
+            }
+            return bits;
+        }
+
+        /**
+         * 값별 건수를 셉니다. 건수는 그 값을 선택했을 때의 공고 수(JobFacetCount.count)입니다.
+         *
+         * @param inclusiveValue 다른 값을 선택해도 함께 조회되는 값 (지원 자격의 '무관'). 이 값의 건수는 다른 모든 값에 더하고, 이 값 자체를 선택하면
+         *                       조건이 없어지므로 범위 전체 건수로 셉니다. 없으면 null
+         */
+        List<JobFacetCount> count(JobFacet facet, BitSet scope, String inclusiveValue) {
+            long[] counts = new long[values.length];
+            for (int position = scope.nextSetBit(0); position >= 0; position = scope.nextSetBit(position + 1)) {
+                int ordinal = ordinals[position];
+                if (ordinal >= 0) {
+                    counts[ordinal]++;
+                }
+            }
+
+            int inclusiveOrdinal = inclusiveValue == null ? -1 : Arrays.asList(values).indexOf(inclusiveValue);
+            long inclusiveCount = inclusiveOrdinal < 0 ? 0 : counts[inclusiveOrdinal];
+
+            List<JobFacetCount> result = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                long count = i == inclusiveOrdinal ? scope.cardinality() : counts[i] + inclusiveCount;
+                result.add(new JobFacetCount(values[i], label(facet, values[i]), count));
+            }
+            result.sort(BY_COUNT_DESC);
+            return result;
+        }
+
+        private static String label(JobFacet facet, String value) {
+            if (facet != JobFacet.SIDO) {
+                return value;
+            }
+            return Sido.find(value).map(Sido::getOfficialName).orElse(value);
+        }
+    }
+
+    /**
+     * 검색어/주소 부분 일치 조건 캐시 키 (데이터 세대 + 조건)
+     */
+    private record TextFilterKey(long generation, String workLocation, String searchKeyword, String searchType) {
+    }
+
+    /**
+     * 공고를 한 행씩 받아 색인을 만드는 빌더
+     */
+    private static final class SnapshotBuilder {
+
+        private final List<FacetRow> rows = new ArrayList<>();
+
+        void add(FacetRow row) {
+            rows.add(row);
+        }
+
+        Snapshot build(long generation) {
+            int size = rows.size();
+            long[] jobIds = new long[size];
+            BitSet open = new BitSet(size);
+            Map<JobFacet, Map<String, Integer>> dictionaries = new EnumMap<>(JobFacet.class);
+            Map<JobFacet, int[]> ordinals = new EnumMap<>(JobFacet.class);
+            for (JobFacet facet : JobFacet.values()) {
+                dictionaries.put(facet, new HashMap<>());
+                ordinals.put(facet, new int[size]);
+            }
+
+            for (int position = 0; position < size; position++) {
+                FacetRow row = rows.get(position);
+                jobIds[position] = row.id();
+                if (row.status() == JobStatus.OPEN) {
+                    open.set(position);
+                }
+                for (JobFacet facet : JobFacet.values()) {
+                    String value = row.value(facet);
+                    Map<String, Integer> dictionary = dictionaries.get(facet);
+                    ordinals.get(facet)[position] = value == null
+                            ? -1
+                            : dictionary.computeIfAbsent(value, key -> dictionary.size());
+                }
+            }
+
+            Map<JobFacet, FacetColumn> columns = new EnumMap<>(JobFacet.class);
+            for (JobFacet facet : JobFacet.values()) {
+                String[] values = new String[dictionaries.get(facet).size()];
+                dictionaries.get(facet).forEach((value, ordinal) -> values[ordinal] = value);
+                columns.put(facet, new FacetColumn(values, ordinals.get(facet)));
+            }
+            return new Snapshot(generation, jobIds, open, columns);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.job.repository.JobBulkRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채용 공고의 마감(soft-expiry)과 정리(purge)를 담당하는 서비스
+ * <p>
+ * 동기화가 끝나면 최신 스냅샷에 없는 공고와 마감일이 지난 공고를 CLOSED로 바꾸고, 보존 기간이 지난 CLOSED 공고는 정해진 건수씩 나눠 삭제합니다. 검색은 OPEN 공고만
+ * 대상으로 하므로 조회 대상 데이터는 게시 중인 공고 규모로 유지됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLifecycleService {
+
+    // 한 번의 UPDATE 문으로 마감 처리할 최대 공고 수 (IN 절 크기 제한)
+    private static final int CLOSE_BATCH_SIZE = 1000;
+
+    private final JobBulkRepository jobBulkRepository;
+    private final JobSearchIndexService jobSearchIndexService;
+
+    // 게시 중 공고 대비 이 비율을 넘게 사라졌으면 API 이상으로 보고 마감 처리하지 않음
+    @Value("${job.sync.reconcile.max-close-ratio:0.5}")
+    private double maxCloseRatio;
+
+    // CLOSED 공고를 삭제하기 전까지 보존하는 기간 (일)
+    @Value("${job.purge.retention-days:30}")
+    private int retentionDays;
+
+    // 정리 작업에서 한 번에 삭제할 공고 수
+    @Value("${job.purge.batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * 이번 동기화 스냅샷에서 확인되지 않은 게시 중 공고를 CLOSED로 변경합니다. 모든 구간을 빠짐없이 받은 실행에서만 호출해야 합니다.
+     *
+     * @param seenRequestNos 이번 실행에서 받은 공고 ID(requestNo) 목록
+     * @return CLOSED로 변경된 공고 수
+     */
+    @Transactional
+    public int closeUnseen(Set<String> seenRequestNos) {
+        if (seenRequestNos.isEmpty()) {
+            log.warn("이번 동기화에서 받은 공고가 없어 마감 처리를 건너뜁니다.");
+            return 0;
+        }
+
+        List<Long> unseenIds = new ArrayList<>();
+        int[] openCount = {0};
+        jobBulkRepository.forEachOpenRequestNo((id, requestNo) -> {
+            openCount[0]++;
+            if (!seenRequestNos.contains(requestNo)) {
+                unseenIds.add(id);
+            }
+        });
+
+        if (unseenIds.size() > openCount[0] * maxCloseRatio) {
+            log.warn("게시 중 공고 {}건 중 {}건이 스냅샷에 없어 허용 비율({})을 넘습니다. 마감 처리를 건너뜁니다.",
+                    openCount[0], unseenIds.size(), maxCloseRatio);
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int closedCount = 0;
+        for (int from = 0; from < unseenIds.size(); from += CLOSE_BATCH_SIZE) {
+            List<Long> batch = unseenIds.subList(from, Math.min(from + CLOSE_BATCH_SIZE, unseenIds.size()));
+            closedCount += jobBulkRepository.closeAll(batch, now);
+        }
+
+        log.info("스냅샷에 없는 공고 마감 처리: {}건 (게시 중 {}건)", closedCount, openCount[0]);
+        return closedCount;
+    }
+
+    /**
+     * 마감일이 지난 게시 중 공고를 CLOSED로 변경합니다.
+     *
+     * @return CLOSED로 변경된 공고 수
+     */
+    @Transactional
+    public int closeExpired() {
+        int closedCount = jobBulkRepository.closeExpired(LocalDate.now(), LocalDateTime.now());
+        log.info("마감일이 지난 공고 마감 처리: {}건", closedCount);
+        return closedCount;
+    }
+
+    /**
+     * 보존 기간이 지난 CLOSED 공고를 batch-size 건씩 삭제합니다. 배치마다 바로 커밋되므로 긴 트랜잭션이나 대량 잠금이 생기지 않습니다.
+     *
+     * @return 삭제된 공고 수
+     */
+    public int purgeClosed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int batchSize = Math.max(1, purgeBatchSize);
+
+        int purgedCount = 0;
+        while (true) {
+            List<Long> ids = jobBulkRepository.findClosedIdsBefore(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            purgedCount += jobBulkRepository.deleteClosedByIds(ids);
+            jobSearchIndexService.removeDeletedTitles(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        log.info("보존 기간({}일)이 지난 마감 공고 삭제: {}건", retentionDays, purgedCount);
+        return purgedCount;
+    }
+}
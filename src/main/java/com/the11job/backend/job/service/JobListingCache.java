@@ -0,0 +1,185 @@
+package com.the11job.backend.job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.the11job.backend.global.cache.BoundedCache;
+import com.the11job.backend.job.dto.JobFilterKey;
+import com.the11job.backend.job.dto.JobFilterRequest;
+import com.the11job.backend.job.dto.JobResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채용 공고 목록(페이지) 조회 결과 캐시 (read-through)
+ * <p>
+ * 서버 메모리(near cache) → Redis → DB 순서로 조회하고, DB에서 읽은 결과는 두 캐시에 모두 저장합니다. 키에 데이터 세대(JobCatalogGeneration)를 포함하므로
+ * 적재 실행 후에는 이전 세대의 페이지를 읽지 않고, 남은 항목은 TTL로 정리됩니다. Redis에 접근할 수 없으면 서버 메모리 캐시와 DB만 사용합니다.
+ * <p>
+ * 페이지에 들어 있던 공고는 ID/requestNo별로도 서버 메모리에 보관하여 여러 공고 일괄 조회에서 재사용합니다.
+ */
+@Slf4j
+@Component
+public class JobListingCache {
+
+    private static final String KEY_PREFIX = "JOB_LISTING:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobCatalogGeneration catalogGeneration;
+    private final BoundedCache<String, CachedJobPage> nearCache;
+    // 캐시된 페이지에 들어 있던 공고 (공고 ID 또는 requestNo로 단건 조회)
+    private final BoundedCache<JobEntryKey, JobResponse> jobEntries;
+
+    // 캐시 사용 여부
+    @Value("${job.listing.cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시할 최대 페이지 번호 (깊은 페이지는 요청이 드물어 캐시하지 않음)
+    @Value("${job.listing.cache.max-page:5}")
+    private int maxCachedPage;
+
+    // Redis에 저장한 페이지의 만료 시간
+    @Value("${job.listing.cache.redis-ttl:PT30M}")
+    private Duration redisTtl;
+
+    public JobListingCache(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+                           ObjectMapper objectMapper, JobCatalogGeneration catalogGeneration,
+                           @Value("${job.listing.cache.near.max-size:500}") int nearMaxSize,
+                           @Value("${job.listing.cache.near.ttl:PT30S}") Duration nearTtl,
+                           @Value("${job.listing.cache.jobs.max-size:5000}") int jobEntriesMaxSize,
+                           @Value("${job.listing.cache.jobs.ttl:PT10M}") Duration jobEntriesTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.catalogGeneration = catalogGeneration;
+        this.nearCache = new BoundedCache<>(nearMaxSize, nearTtl);
+        this.jobEntries = new BoundedCache<>(jobEntriesMaxSize, jobEntriesTtl);
+    }
+
+    /**
+     * 캐시에 있는 페이지를 반환하고, 없으면 loader로 조회하여 캐시에 저장합니다.
+     *
+     * @param request  필터링 조건
+     * @param pageable 페이징 및 정렬 정보
+     * @param loader   캐시에 없을 때 DB에서 페이지를 조회하는 함수
+     */
+    public Page<JobResponse> getPage(JobFilterRequest request, Pageable pageable, Supplier<Page<JobResponse>> loader) {
+        if (!enabled || pageable.getPageNumber() >= maxCachedPage) {
+            return loader.get();
+        }
+
+        String key = cacheKey(JobFilterKey.of(request), pageable);
+
+        Optional<CachedJobPage> cached = nearCache.get(key).or(() -> readRedis(key));
+        if (cached.isPresent()) {
+            nearCache.put(key, cached.get());
+            putJobs(cached.get().content());
+            return cached.get().toPage(pageable);
+        }
+
+        Page<JobResponse> page = loader.get();
+        CachedJobPage loaded = new CachedJobPage(page.getContent(), page.getTotalElements());
+        nearCache.put(key, loaded);
+        writeRedis(key, loaded);
+        putJobs(page.getContent());
+        return page;
+    }
+
+    /**
+     * 현재 세대에서 목록 조회로 캐시된 공고를 ID로 찾습니다.
+     */
+    public Optional<JobResponse> findJob(Long jobId) {
+        return enabled ? jobEntries.get(new JobEntryKey(catalogGeneration.current(), jobId)) : Optional.empty();
+    }
+
+    /**
+     * 현재 세대에서 목록 조회로 캐시된 공고를 requestNo로 찾습니다.
+     */
+    public Optional<JobResponse> findJobByRequestNo(String requestNo) {
+        return enabled ? jobEntries.get(new JobEntryKey(catalogGeneration.current(), requestNo)) : Optional.empty();
+    }
+
+    /**
+     * 조회한 공고를 ID와 requestNo 양쪽으로 단건 캐시에 저장합니다.
+     */
+    public void putJobs(Collection<JobResponse> jobs) {
+        if (!enabled) {
+            return;
+        }
+        long generation = catalogGeneration.current();
+        for (JobResponse job : jobs) {
+            jobEntries.put(new JobEntryKey(generation, job.getJobId()), job);
+            jobEntries.put(new JobEntryKey(generation, job.getRequestNo()), job);
+        }
+    }
+
+    private Optional<CachedJobPage> readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, CachedJobPage.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("채용 공고 목록 캐시 조회 실패 (키: {}). DB에서 조회합니다: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(String key, CachedJobPage page) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(page), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("채용 공고 목록 캐시 저장 실패 (키: {}): {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * JOB_LISTING:{세대}:{필터 + 페이지 정보의 SHA-256}. 검색어 길이와 관계없이 키 길이를 일정하게 유지합니다.
+     */
+    private String cacheKey(JobFilterKey filter, Pageable pageable) {
+        String content = filter + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|"
+                + pageable.getSort();
+        return KEY_PREFIX + catalogGeneration.current() + ":" + sha256(content);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 데이터 세대 + 공고 ID(Long) 또는 requestNo(String)
+     */
+    private record JobEntryKey(long generation, Object key) {
+    }
+
+    /**
+     * 캐시에 저장하는 페이지 (내용 + 전체 개수)
+     */
+    record CachedJobPage(List<JobResponse> content, long totalElements) {
+
+        Page<JobResponse> toPage(Pageable pageable) {
+            return new PageImpl<>(content, pageable, totalElements);
+        }
+    }
+}
@@ -1,23 +1,44 @@
 package com.the11job.backend.job.service;
 
 import com.the11job.backend.api.seouljob.SeoulJobInfo.JobDetail;
+import com.the11job.backend.job.dto.WorkRegion;
 import com.the11job.backend.job.entity.Job;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.Month;
+import java.time.Year;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JobMapper {
 
-    // 포맷터는 불변(immutable)이므로 final 필드로 선언
-    private final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // 날짜 형식 "yyyy-MM-dd"의 길이와 구분자 위치
+    private static final int DATE_LENGTH = 10;
+    private static final int MONTH_SEPARATOR_INDEX = 4;
+    private static final int DAY_SEPARATOR_INDEX = 7;
+    private static final int MAX_DAY_OF_MONTH = 31;
+
+    // SHA-256 MessageDigest는 스레드 안전하지 않고 생성 비용이 있으므로 스레드마다 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JobMapper::newSha256);
 
     // 서울시 일자리 상세 URL 기본 패턴 정의 (JO_REQST_NO를 파라미터로 사용)
     private static final String SEOUL_JOB_DETAIL_URL = "https://job.seoul.go.kr/www/jobInfo/getJobInfoDetail.do?joReqstNo=";
 
+    // 기업명이 없을 때 사용할 기본값
+    private static final String UNKNOWN_COMPANY_NAME = "미상";
+
+    // 내용 지문 계산 시 필드 구분자 / null 표시
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final String NULL_MARKER = "\u0000";
+
+    private final JobCategoryDictionary categoryDictionary;
 
     /**
      * JobDetail DTO를 Job Entity로 변환합니다. (Company 엔터티 연결은 JobSaverService에서 처리하므로 여기서 매핑하지 않습니다.)
@@ -26,36 +47,143 @@ public class JobMapper {
 
         // 날짜 변환 처리
         LocalDate registrationDate = safeParseDate(detail.getJobRegistrationDate());
+        LocalDate expirationDate = safeParseClosingDate(detail.getReceiptClosingName()); // 마감일 추출 시도
         String joRequestNo = detail.getJoRequestNo(); // 상세 URL 생성을 위해 JO_REQST_NO 추출
+        String detailUrl = createDetailUrl(joRequestNo); // JO_REQST_NO 기반으로 동적 URL 생성
+        // 근무지 주소에서 시/도 코드와 시/군/구 이름 추출 (근무지역 필터용 인덱스 컬럼)
+        WorkRegion region = WorkRegion.parse(detail.getWorkAddress()).orElse(null);
+        String sidoCode = region == null ? null : region.sidoCode();
+        String sigunguName = region == null ? null : categoryDictionary.canonicalize(region.sigunguName());
+
+        // 종류가 적은 범주형 값은 공유 사전의 인스턴스로 맞춤
+        String jobCodeName = categoryDictionary.canonicalize(detail.getJobCodeName());
+        String academicName = categoryDictionary.canonicalize(detail.getAcademicName());
+        String careerName = categoryDictionary.canonicalize(detail.getCareerConditionName());
 
         // Builder를 사용하여 필요한 필드만 엔터티에 매핑
         return Job.builder()
                 .requestNo(joRequestNo)
                 .title(detail.getJobSubject())
                 .workAddress(detail.getWorkAddress())
-                .jobCodeName(detail.getJobCodeName())
-                .academicName(detail.getAcademicName())
-                .careerName(detail.getCareerConditionName())
+                .sidoCode(sidoCode)
+                .sigunguName(sigunguName)
+                .jobCodeName(jobCodeName)
+                .academicName(academicName)
+                .careerName(careerName)
                 .registrationDate(registrationDate)
-                .expirationDate(safeParseClosingDate(detail.getReceiptClosingName())) // 마감일 추출 시도
-                .detailUrl(createDetailUrl(joRequestNo)) // JO_REQST_NO 기반으로 동적 URL 생성
+                .expirationDate(expirationDate)
+                .detailUrl(detailUrl)
+                .contentHash(contentHash(
+                        normalizeCompanyName(detail.getCompanyName()),
+                        detail.getJobSubject(),
+                        detail.getWorkAddress(),
+                        sidoCode,
+                        sigunguName,
+                        jobCodeName,
+                        academicName,
+                        careerName,
+                        String.valueOf(registrationDate),
+                        String.valueOf(expirationDate),
+                        detailUrl))
                 .build();
     }
 
+    /**
+     * 기업명 Null 체크 및 정규화 (Company 해석과 내용 지문에서 같은 값을 사용)
+     */
+    public String normalizeCompanyName(String companyName) {
+        if (companyName == null || companyName.trim().isEmpty()) {
+            return UNKNOWN_COMPANY_NAME; // Null/Empty인 경우 기본값 할당
+        }
+        return companyName.trim();
+    }
+
+    /**
+     * 매핑된 필드 값들로 SHA-256 내용 지문(hex 64자)을 만듭니다. 값이 하나라도 바뀌면 지문이 달라집니다.
+     */
+    private String contentHash(String... values) {
+        StringBuilder content = new StringBuilder(256);
+        for (String value : values) {
+            content.append(value == null ? NULL_MARKER : value).append(FIELD_SEPARATOR);
+        }
+
+        // digest()는 계산 후 상태를 초기화하므로 같은 인스턴스를 다음 row에 그대로 사용 가능
+        MessageDigest digest = SHA_256.get();
+        return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 안전하게 String을 LocalDate로 변환합니다.
      */
-    private LocalDate safeParseDate(String dateString) {
+    static LocalDate safeParseDate(String dateString) {
         if (dateString == null || dateString.trim().isEmpty()) {
             return null;
         }
-        try {
-            // 인스턴스 필드인 DATE_FORMATTER 사용
-            return LocalDate.parse(dateString, DATE_FORMATTER);
-        } catch (DateTimeParseException e) {
+        LocalDate date = parseDate(dateString, 0, dateString.length());
+        if (date == null) {
             log.warn("날짜 파싱 실패 (값: {}). 포맷 확인 필요.", dateString);
+        }
+        return date;
+    }
+
+    /**
+     * value[from, to) 구간의 "yyyy-MM-dd"를 부분 문자열이나 예외 없이 직접 읽어 LocalDate로 변환합니다.
+     * <p>
+     * 기존 DateTimeFormatter.ofPattern("yyyy-MM-dd")(ResolverStyle.SMART)와 같은 결과를 냅니다. 공백은 허용하지 않고, 달의 마지막 날을 넘는
+     * 29~31일은 그 달의 마지막 날로 맞춥니다. (예: 2023-02-29 -> 2023-02-28)
+     *
+     * @return 형식이 맞지 않거나 범위를 벗어난 날짜이면 null
+     */
+    private static LocalDate parseDate(String value, int from, int to) {
+        if (to - from != DATE_LENGTH
+                || value.charAt(from + MONTH_SEPARATOR_INDEX) != '-'
+                || value.charAt(from + DAY_SEPARATOR_INDEX) != '-') {
+            return null;
+        }
+
+        int year = parseDigits(value, from, from + MONTH_SEPARATOR_INDEX);
+        int month = parseDigits(value, from + MONTH_SEPARATOR_INDEX + 1, from + DAY_SEPARATOR_INDEX);
+        int day = parseDigits(value, from + DAY_SEPARATOR_INDEX + 1, to);
+        // yyyy는 연도(year-of-era)이므로 0년은 허용하지 않음
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > MAX_DAY_OF_MONTH) {
             return null;
         }
+        return LocalDate.of(year, month, Math.min(day, Month.of(month).length(Year.isLeap(year))));
+    }
+
+    /**
+     * value[from, to) 구간의 숫자를 읽습니다.
+     *
+     * @return 숫자가 아닌 문자가 있으면 -1
+     */
+    private static int parseDigits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isBlank(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -77,22 +205,22 @@ public class JobMapper {
     /**
      * RCEPT_CLOS_NM ("마감일 (YYYY-MM-DD)")에서 마감일자를 추출합니다.
      */
-    private LocalDate safeParseClosingDate(String closingName) {
-        if (closingName == null || !closingName.contains("(")) {
+    static LocalDate safeParseClosingDate(String closingName) {
+        if (closingName == null) {
             return null;
         }
-        try {
-            // '마감일 (2025-12-10)' 형태에서 괄호 안의 날짜만 추출
-            int start = closingName.indexOf('(') + 1;
-            int end = closingName.indexOf(')');
-            if (start > 0 && end > start) {
-                String dateString = closingName.substring(start, end);
-                return safeParseDate(dateString); // 내부 safeParseDate 호출
-            }
-        } catch (RuntimeException e) {
+        // '마감일 (2025-12-10)' 형태에서 괄호 안의 날짜만 부분 문자열 없이 바로 파싱
+        int start = closingName.indexOf('(') + 1;
+        int end = closingName.indexOf(')');
+        if (start <= 0 || end <= start || isBlank(closingName, start, end)) {
+            return null;
+        }
+
+        LocalDate closingDate = parseDate(closingName, start, end);
+        if (closingDate == null) {
             log.warn("마감일 문자열에서 날짜 추출 실패: {}", closingName);
         }
-        return null;
+        return closingDate;
     }
 
     /**
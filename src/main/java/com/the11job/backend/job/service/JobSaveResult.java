@@ -0,0 +1,22 @@
+package com.the11job.backend.job.service;
+
+/**
+ * 채용 공고 청크 저장 결과
+ *
+ * @param processed 전달받은 건수
+ * @param inserted  신규 저장 건수
+ * @param updated   내용이 바뀌어 갱신한 건수
+ * @param unchanged 내용이 같아 기록하지 않은 건수
+ */
+public record JobSaveResult(int processed, int inserted, int updated, int unchanged) {
+
+    public static final JobSaveResult EMPTY = new JobSaveResult(0, 0, 0, 0);
+
+    public JobSaveResult plus(JobSaveResult other) {
+        return new JobSaveResult(
+                processed + other.processed,
+                inserted + other.inserted,
+                updated + other.updated,
+                unchanged + other.unchanged);
+    }
+}
@@ -1,11 +1,22 @@
 package com.the11job.backend.job.service;
 
 import com.the11job.backend.api.seouljob.SeoulJobInfo.JobDetail;
-import com.the11job.backend.company.entity.Company;
 import com.the11job.backend.company.repository.CompanyRepository;
+import com.the11job.backend.company.service.CompanyResolutionCache;
 import com.the11job.backend.job.entity.Job;
-import com.the11job.backend.job.repository.JobRepository;
+import com.the11job.backend.job.entity.JobStatus;
+import com.the11job.backend.job.entity.JobSyncMode;
+import com.the11job.backend.job.metrics.JobIngestMetrics;
+import com.the11job.backend.job.repository.JobBulkRepository;
+import com.the11job.backend.job.repository.JobBulkRepository.StoredJob;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,74 +31,117 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class JobSaverService {
 
-    private final JobRepository jobRepository;
+    private final JobBulkRepository jobBulkRepository;
     private final JobMapper jobMapper;
     private final CompanyRepository companyRepository;
+    private final CompanyResolutionCache companyResolutionCache;
+    private final JobIngestMetrics jobIngestMetrics;
+    private final JobSearchIndexService jobSearchIndexService;
 
     /**
-     * 가져온 채용 공고 데이터를 DB에 저장하거나 갱신하는 트랜잭션 단위 메서드. 1000건의 청크(Chunk)를 하나의 트랜잭션으로 처리합니다.
+     * 가져온 채용 공고 데이터를 DB에 저장하거나 갱신하는 트랜잭션 단위 메서드. 한 청크(job.sync.save-chunk-size건)를 하나의 트랜잭션으로 처리합니다.
+     * <p>
+     * 청크의 requestNo를 한 번의 IN 쿼리로 조회해 메모리에서 신규/갱신을 나눈 뒤, INSERT와 UPDATE를 각각 JDBC 배치로 실행합니다. 증분 모드에서는 내용 지문이
+     * 같은 공고를 UPDATE 하지 않습니다.
+     *
+     * @param details 저장할 API 데이터 청크
+     * @param mode    동기화 방식 (FULL이면 내용이 같아도 모두 갱신)
+     * @return 신규/갱신/변경 없음 건수
      */
     @Transactional
-    public int processAndSaveData(List<JobDetail> details) {
-        int newCount = 0;
-        int updateCount = 0;
+    public JobSaveResult processAndSaveData(List<JobDetail> details, JobSyncMode mode) {
+        // 1. DTO -> Entity 변환 (청크 안에서 같은 requestNo가 반복되면 마지막 값 사용)
+        Timer.Sample mapSample = jobIngestMetrics.start();
+        Map<String, Job> jobsByRequestNo = new LinkedHashMap<>();
+        Map<String, String> companyNamesByRequestNo = new HashMap<>();
 
         for (JobDetail detail : details) {
             String requestNo = Optional.ofNullable(detail.getJoRequestNo()).orElse("Unknown_ID");
 
             try {
+                if (detail.getJoRequestNo() == null || detail.getJoRequestNo().isBlank()) {
+                    log.warn("공고 ID(JO_REQST_NO)가 없는 데이터는 저장하지 않습니다. (공고 제목: {})", detail.getJobSubject());
+                    continue;
+                }
+
                 // DTO를 Entity로 변환 (아직 Company 연결 전)
                 Job newJob = jobMapper.toEntity(detail);
 
+                jobsByRequestNo.put(newJob.getRequestNo(), newJob);
                 // JobDetail DTO에서 기업명을 직접 추출하여 NullPointerException 방지
-                String companyName = detail.getCompanyName();
-
-                // Company 엔터티 처리 (신규 또는 재활용)
-                Company company = getOrCreateCompany(companyName);
-
-                // DB에 이미 존재하는 공고인지 requestNo(외부 고유 ID)로 확인
-                Optional<Job> existingJob = jobRepository.findByRequestNo(newJob.getRequestNo());
-
-                if (existingJob.isPresent()) {
-                    Job jobToUpdate = existingJob.get();
-                    jobToUpdate.update(newJob);
-                    jobToUpdate.setCompany(company); // Company 연결
-                    jobRepository.save(jobToUpdate);
-                    updateCount++;
-                } else {
-                    newJob.setCompany(company); // Company 연결
-                    jobRepository.save(newJob);
-                    newCount++;
-                }
+                companyNamesByRequestNo.put(newJob.getRequestNo(),
+                        jobMapper.normalizeCompanyName(detail.getCompanyName()));
 
             } catch (RuntimeException e) {
-                log.error("채용 정보 저장/갱신 중 오류 발생 (공고 ID: {}). 현재 청크 롤백 예정.", requestNo, e);
-                throw new RuntimeException("DB 저장 오류로 인해 현재 청크 롤백 (ID: " + requestNo + ")", e);
+                log.error("채용 정보 변환 중 오류 발생 (공고 ID: {}). 현재 청크 롤백 예정.", requestNo, e);
+                throw new RuntimeException("데이터 변환 오류로 인해 현재 청크 롤백 (ID: " + requestNo + ")", e);
+            }
+        }
+
+        jobIngestMetrics.recordMap(mapSample);
+
+        // Company 엔터티 처리: 청크의 기업명을 캐시로 한 번에 해석하고, 조회 없이 ID 참조만 연결
+        Timer.Sample companySample = jobIngestMetrics.start();
+        Map<String, Long> companyIds = companyResolutionCache.resolveAll(companyNamesByRequestNo.values());
+        jobsByRequestNo.forEach((requestNo, job) -> job.setCompany(
+                companyRepository.getReferenceById(companyIds.get(companyNamesByRequestNo.get(requestNo)))));
+        jobIngestMetrics.recordCompanyResolve(companySample);
+
+        // 2. DB에 이미 존재하는 공고를 requestNo(외부 고유 ID) 목록으로 한 번에 확인
+        Timer.Sample persistSample = jobIngestMetrics.start();
+        Map<String, StoredJob> storedJobs = jobBulkRepository.findStoredJobsByRequestNos(jobsByRequestNo.keySet());
+
+        // 3. 메모리에서 신규/갱신/변경 없음 분류 (내용 지문 비교, 다시 게시된 CLOSED 공고는 갱신하여 OPEN으로 복구)
+        LocalDate today = LocalDate.now();
+        List<Job> newJobs = new ArrayList<>();
+        Map<Long, Job> updatedJobs = new LinkedHashMap<>();
+        int unchangedCount = 0;
+        for (Map.Entry<String, Job> entry : jobsByRequestNo.entrySet()) {
+            Job job = entry.getValue();
+            StoredJob storedJob = storedJobs.get(entry.getKey());
+            if (storedJob == null) {
+                newJobs.add(job);
+            } else if (mode == JobSyncMode.INCREMENTAL && job.getContentHash().equals(storedJob.contentHash())
+                    && (storedJob.status() == JobStatus.OPEN || job.isExpiredOn(today))) {
+                unchangedCount++;
+            } else {
+                updatedJobs.put(storedJob.id(), job);
             }
         }
-        log.info("  -> 이번 호출 처리: 신규 {}건, 갱신 {}건", newCount, updateCount);
-        return details.size();
+
+        // 4. 배치 INSERT / UPDATE
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            jobBulkRepository.insertAll(newJobs, now);
+            jobBulkRepository.updateAll(updatedJobs, now);
+
+            // 5. 검색 색인 갱신 (신규/갱신 공고의 제목, 처음 등장한 기업의 기업명)
+            indexSearchTokens(jobsByRequestNo, newJobs, updatedJobs, companyIds);
+        } catch (RuntimeException e) {
+            log.error("채용 정보 배치 저장/갱신 중 오류 발생 (신규 {}건, 갱신 {}건). 현재 청크 롤백 예정.",
+                    newJobs.size(), updatedJobs.size(), e);
+            throw new RuntimeException("DB 저장 오류로 인해 현재 청크 롤백", e);
+        }
+        jobIngestMetrics.recordPersist(persistSample);
+
+        log.info("  -> 이번 호출 처리: 신규 {}건, 갱신 {}건, 변경 없음 {}건", newJobs.size(), updatedJobs.size(), unchangedCount);
+        return new JobSaveResult(details.size(), newJobs.size(), updatedJobs.size(), unchangedCount);
     }
 
-    /**
-     * 기업명으로 기존 Company를 찾거나 새로 생성하여 저장합니다.
-     *
-     * @param companyName 처리할 기업명
-     * @return Company 엔터티 (신규 또는 기존)
-     */
-    private Company getOrCreateCompany(String companyName) {
-        // 기업명 Null 체크 및 정규화
-        if (companyName == null || companyName.trim().isEmpty()) {
-            companyName = "미상"; // Null/Empty인 경우 기본값 할당
+    private void indexSearchTokens(Map<String, Job> jobsByRequestNo, List<Job> newJobs, Map<Long, Job> updatedJobs,
+                                   Map<String, Long> companyIds) {
+        Map<Long, String> titlesByJobId = new HashMap<>();
+        updatedJobs.forEach((id, job) -> titlesByJobId.put(id, job.getTitle()));
+        if (!newJobs.isEmpty()) {
+            // 배치 INSERT는 생성된 ID를 돌려주지 않으므로 requestNo로 다시 조회
+            List<String> newRequestNos = newJobs.stream().map(Job::getRequestNo).toList();
+            jobBulkRepository.findStoredJobsByRequestNos(newRequestNos).forEach((requestNo, storedJob) ->
+                    titlesByJobId.put(storedJob.id(), jobsByRequestNo.get(requestNo).getTitle()));
         }
-        String normalizedName = companyName.trim();
-
-        return companyRepository.findByName(normalizedName)
-                .orElseGet(() -> {
-                    // 신규 Company 생성 및 저장
-                    Company newCompany = Company.builder().name(normalizedName).build();
-                    log.info("신규 Company 등록: {}", normalizedName);
-                    return companyRepository.save(newCompany);
-                });
+        jobSearchIndexService.indexTitles(titlesByJobId);
+
+        Map<Long, String> companyNamesById = new HashMap<>();
+        companyIds.forEach((name, id) -> companyNamesById.put(id, name));
+        jobSearchIndexService.indexCompanyNamesIfAbsent(companyNamesById);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.global.util.NgramTokenizer;
+import com.the11job.backend.job.entity.JobSearchField;
+import com.the11job.backend.job.repository.JobSearchIndexRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채용 공고 검색 색인(공고 제목/기업명의 2-gram 토큰)을 적재 파이프라인과 함께 갱신하는 서비스입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSearchIndexService {
+
+    // 색인 재구축 시 한 번에 저장할 대상 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final JobSearchIndexRepository searchIndexRepository;
+
+    /**
+     * 신규/갱신된 공고의 제목 토큰을 다시 저장합니다. 청크 트랜잭션 안에서 호출되어 공고 저장과 함께 커밋/롤백됩니다.
+     *
+     * @param titlesByJobId jobs.id -> 공고 제목
+     */
+    public void indexTitles(Map<Long, String> titlesByJobId) {
+        searchIndexRepository.replaceTokens(JobSearchField.TITLE, tokenize(titlesByJobId));
+    }
+
+    /**
+     * 아직 색인되지 않은 기업의 기업명 토큰을 저장합니다. 기업명은 바뀌지 않으므로 이미 색인된 기업은 건너뜁니다.
+     *
+     * @param namesByCompanyId companies.id -> 기업명
+     */
+    public void indexCompanyNamesIfAbsent(Map<Long, String> namesByCompanyId) {
+        Set<Long> indexed = searchIndexRepository.findIndexedOwnerIds(JobSearchField.COMPANY,
+                namesByCompanyId.keySet());
+
+        Map<Long, String> missing = new HashMap<>(namesByCompanyId);
+        missing.keySet().removeAll(indexed);
+        searchIndexRepository.replaceTokens(JobSearchField.COMPANY, tokenize(missing));
+    }
+
+    /**
+     * 삭제된 공고의 제목 토큰을 지웁니다. (삭제 직전 다시 게시되어 남아 있는 공고의 토큰은 유지)
+     */
+    public void removeDeletedTitles(Collection<Long> jobIds) {
+        searchIndexRepository.deleteOrphanTitleTokens(jobIds);
+    }
+
+    /**
+     * 색인이 비어 있으면(최초 배포 등) 저장된 공고와 기업 전체로 색인을 만듭니다. 중간에 실패하면 일부만 만들어진 색인이 남지 않도록 하나의 트랜잭션으로 처리합니다.
+     */
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (!searchIndexRepository.isEmpty()) {
+            return;
+        }
+
+        log.info("검색 색인이 비어 있어 전체 공고/기업으로 색인을 만듭니다.");
+        int titleCount = rebuild(JobSearchField.TITLE, searchIndexRepository::forEachJobTitle);
+        int companyCount = rebuild(JobSearchField.COMPANY, searchIndexRepository::forEachCompanyName);
+        log.info("검색 색인 생성 완료: 공고 {}건, 기업 {}건", titleCount, companyCount);
+    }
+
+    private int rebuild(JobSearchField field, Consumer<BiConsumer<Long, String>> source) {
+        Map<Long, String> batch = new HashMap<>();
+        int[] count = {0};
+        source.accept((ownerId, text) -> {
+            batch.put(ownerId, text);
+            count[0]++;
+            if (batch.size() >= REBUILD_BATCH_SIZE) {
+                searchIndexRepository.replaceTokens(field, tokenize(batch));
+                batch.clear();
+            }
+        });
+        searchIndexRepository.replaceTokens(field, tokenize(batch));
+        return count[0];
+    }
+
+    private Map<Long, Set<String>> tokenize(Map<Long, String> textsByOwner) {
+        Map<Long, Set<String>> tokensByOwner = new HashMap<>();
+        textsByOwner.forEach((ownerId, text) -> tokensByOwner.put(ownerId, NgramTokenizer.bigrams(text)));
+        return tokensByOwner;
+    }
+}
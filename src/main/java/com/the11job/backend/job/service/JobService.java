@@ -1,10 +1,27 @@
 package com.the11job.backend.job.service;
 
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.job.dto.JobBatchRequest;
+import com.the11job.backend.job.dto.JobCursor;
+import com.the11job.backend.job.dto.JobFacetResponse;
 import com.the11job.backend.job.dto.JobFilterRequest;
 import com.the11job.backend.job.dto.JobResponse;
+import com.the11job.backend.job.dto.JobScrollResponse;
+import com.the11job.backend.job.dto.JobSortOrder;
+import com.the11job.backend.job.exception.JobException;
 import com.the11job.backend.job.repository.JobRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,22 +34,117 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class JobService {
 
+    // 무한 스크롤 한 번에 조회할 수 있는 최대 건수
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final JobRepository jobRepository;
+    private final JobCountCache jobCountCache;
+    private final JobListingCache jobListingCache;
+    private final JobFacetIndex jobFacetIndex;
 
     /**
-     * 채용 공고 목록 조회 및 필터링 API의 서비스 로직. 필터링 조건이 없으면 전체 조회가 됩니다.
+     * 채용 공고 목록 조회 및 필터링 API의 서비스 로직. 필터링 조건이 없으면 전체 조회가 됩니다. 앞쪽 페이지는 목록 캐시에서 먼저 찾습니다.
      *
      * @param request  검색어, 근무지역, 지원자격 등의 필터링 조건
-     * @param pageable 페이징 및 정렬 정보
+     * @param pageable 페이징 및 정렬 정보 (정렬은 JobSortOrder에 있는 순서만 허용)
      * @return 필터링된 Job 목록 (Page<JobResponse> 형태)
      */
     public Page<JobResponse> getFilteredJobs(JobFilterRequest request, Pageable pageable) {
+        // 지원하지 않는 정렬은 여기서 거부하고, 같은 정렬은 같은 캐시 키가 되도록 정렬 표현을 통일
+        JobSortOrder sortOrder = JobSortOrder.from(pageable.getSort());
+        Pageable normalized = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sortOrder.toSort());
+
+        return jobListingCache.getPage(request, normalized, () -> findFilteredJobs(request, normalized));
+    }
+
+    private Page<JobResponse> findFilteredJobs(JobFilterRequest request, Pageable pageable) {
+
+        // 필터링 조건을 커스텀 Repository 메서드에 전달하여 JobResponse를 바로 조회 (전체 개수는 필터별 캐시 사용)
+        return jobRepository.findJobsByFilter(request, pageable, () -> jobCountCache.getCount(request));
+    }
+
+    /**
+     * 채용 공고 무한 스크롤 조회. 요청한 개수보다 한 건 더 조회하여 다음 공고 존재 여부를 판단하고, 전체 개수는 계산하지 않습니다.
+     *
+     * @param request 검색어, 근무지역, 지원자격 등의 필터링 조건
+     * @param cursor  이전 응답의 nextCursor (첫 요청이면 null)
+     * @param size    조회할 개수 (1 ~ 100)
+     * @return 공고 목록과 다음 커서
+     */
+    public JobScrollResponse getJobsByCursor(JobFilterRequest request, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        JobCursor jobCursor = (cursor == null || cursor.isBlank()) ? null : JobCursor.decode(cursor);
+
+        List<JobResponse> jobs = jobRepository.findJobsByCursor(request, jobCursor, limit + 1);
+
+        boolean hasNext = jobs.size() > limit;
+        List<JobResponse> content = hasNext ? jobs.subList(0, limit) : jobs;
 
-        // 1. 필터링 조건을 커스텀 Repository 메서드에 전달하여 Page<Job> 조회
-        Page<JobResponse> jobPage = jobRepository.findJobsByFilter(request, pageable)
-                .map(JobResponse::from); // 2. 조회된 Job 엔티티를 JobResponse DTO로 변환
+        return JobScrollResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? JobCursor.of(content.get(content.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        return jobPage;
+    /**
+     * 현재 필터 조건에서 지원 자격, 학력, 직무, 시/도, 시/군/구 값별 공고 수를 조회합니다.
+     *
+     * @param request 검색어, 근무지역, 지원자격 등의 필터링 조건
+     * @return 필터 항목 값별 공고 수
+     */
+    public JobFacetResponse getFacets(JobFilterRequest request) {
+        return jobFacetIndex.getFacets(request);
     }
 
-}
\ No newline at end of file
+    /**
+     * 공고 ID 또는 requestNo 목록으로 여러 공고를 한 번에 조회합니다. 목록 조회로 캐시된 공고는 캐시에서 가져오고, 나머지만 한 번의 쿼리로 조회합니다.
+     *
+     * @param request 조회할 공고 ID / requestNo 목록 (합계 최대 300개)
+     * @return 요청 순서대로 정렬된 공고 목록 (없는 공고는 제외, 중복 제거)
+     * @throws JobException 요청한 공고 수가 최대 개수를 넘는 경우
+     */
+    public List<JobResponse> getJobsByIdsOrRequestNos(JobBatchRequest request) {
+        Set<Long> jobIds = new LinkedHashSet<>();
+        Optional.ofNullable(request.getJobIds()).ifPresent(ids -> ids.stream()
+                .filter(Objects::nonNull)
+                .forEach(jobIds::add));
+        Set<String> requestNos = new LinkedHashSet<>();
+        Optional.ofNullable(request.getRequestNos()).ifPresent(values -> values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::trim)
+                .forEach(requestNos::add));
+
+        if (jobIds.size() + requestNos.size() > JobBatchRequest.MAX_SIZE) {
+            throw new JobException(ErrorCode.JOB_BATCH_LIMIT_EXCEEDED);
+        }
+
+        // 1. 목록 캐시에 있는 공고 먼저 사용
+        Map<Long, JobResponse> jobsById = new HashMap<>();
+        Map<String, JobResponse> jobsByRequestNo = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        List<String> missingRequestNos = new ArrayList<>();
+        jobIds.forEach(id -> jobListingCache.findJob(id)
+                .ifPresentOrElse(job -> jobsById.put(id, job), () -> missingIds.add(id)));
+        requestNos.forEach(requestNo -> jobListingCache.findJobByRequestNo(requestNo)
+                .ifPresentOrElse(job -> jobsByRequestNo.put(requestNo, job), () -> missingRequestNos.add(requestNo)));
+
+        // 2. 캐시에 없는 공고는 한 번의 쿼리로 조회
+        if (!missingIds.isEmpty() || !missingRequestNos.isEmpty()) {
+            List<JobResponse> loaded = jobRepository.findJobsByIdsOrRequestNos(missingIds, missingRequestNos);
+            jobListingCache.putJobs(loaded);
+            loaded.forEach(job -> {
+                jobsById.put(job.getJobId(), job);
+                jobsByRequestNo.put(job.getRequestNo(), job);
+            });
+        }
+
+        // 3. 요청 순서대로 정렬 (같은 공고를 ID와 requestNo로 모두 요청한 경우 한 번만 포함)
+        Map<Long, JobResponse> result = new LinkedHashMap<>();
+        jobIds.forEach(id -> Optional.ofNullable(jobsById.get(id))
+                .ifPresent(job -> result.putIfAbsent(job.getJobId(), job)));
+        requestNos.forEach(requestNo -> Optional.ofNullable(jobsByRequestNo.get(requestNo))
+                .ifPresent(job -> result.putIfAbsent(job.getJobId(), job)));
+        return List.copyOf(result.values());
+    }
+}
@@ -0,0 +1,59 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.job.entity.JobSyncCheckpoint;
+import com.the11job.backend.job.entity.JobSyncMode;
+import com.the11job.backend.job.repository.JobSyncCheckpointRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채용 공고 동기화 체크포인트를 기록/조회하는 서비스입니다. 청크 트랜잭션과 분리하여 각 메서드가 자체 트랜잭션으로 커밋됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobSyncCheckpointService {
+
+    // 서울시 일자리 API 동기화 체크포인트 식별자
+    public static final String SEOUL_JOB_SYNC_KEY = "SEOUL_JOB";
+
+    private final JobSyncCheckpointRepository checkpointRepository;
+
+    /**
+     * 실행 시작을 기록하고 시작 시각을 반환합니다.
+     */
+    @Transactional
+    public LocalDateTime markStarted(JobSyncMode mode) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        getOrCreate().start(mode, startedAt);
+        return startedAt;
+    }
+
+    /**
+     * 모든 구간을 처리한 실행의 결과를 기록합니다.
+     */
+    @Transactional
+    public void markCompleted(LocalDateTime startedAt, int totalCount, JobSaveResult result) {
+        getOrCreate().complete(startedAt, totalCount, result.inserted(), result.updated(), result.unchanged());
+    }
+
+    /**
+     * 끝까지 완료하지 못한 실행(첫 호출 실패, 실패한 구간, 예외 등)을 기록합니다. 마지막 완료 기록은 그대로 둡니다.
+     */
+    @Transactional
+    public void markFailed(LocalDateTime startedAt, String reason) {
+        getOrCreate().fail(startedAt, reason);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<JobSyncCheckpoint> findCheckpoint() {
+        return checkpointRepository.findBySyncKey(SEOUL_JOB_SYNC_KEY);
+    }
+
+    private JobSyncCheckpoint getOrCreate() {
+        return checkpointRepository.findBySyncKey(SEOUL_JOB_SYNC_KEY)
+                .orElseGet(() -> checkpointRepository.save(new JobSyncCheckpoint(SEOUL_JOB_SYNC_KEY)));
+    }
+}
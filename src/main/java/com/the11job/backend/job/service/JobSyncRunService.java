@@ -0,0 +1,109 @@
+package com.the11job.backend.job.service;
+
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.job.entity.JobSyncRun;
+import com.the11job.backend.job.entity.JobSyncRunStatus;
+import com.the11job.backend.job.entity.JobSyncWindow;
+import com.the11job.backend.job.entity.JobSyncWindowStatus;
+import com.the11job.backend.job.exception.JobException;
+import com.the11job.backend.job.repository.JobSyncRunRepository;
+import com.the11job.backend.job.repository.JobSyncWindowRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동기화 실행(JobSyncRun)과 구간별 처리 상태(JobSyncWindow)를 기록하는 서비스입니다. 청크 트랜잭션과 분리하여 각 메서드가 자체 트랜잭션으로 커밋됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSyncRunService {
+
+    private static final List<JobSyncRunStatus> RESUMABLE_STATUSES =
+            List.of(JobSyncRunStatus.RUNNING, JobSyncRunStatus.FAILED);
+
+    private final JobSyncRunRepository runRepository;
+    private final JobSyncWindowRepository windowRepository;
+
+    // 이 시간보다 오래된 미완료 실행은 데이터가 많이 바뀌었을 수 있으므로 이어받지 않음
+    @Value("${job.sync.resume.max-age:PT24H}")
+    private Duration resumeMaxAge;
+
+    /**
+     * 이어받을 수 있는 가장 최근의 미완료 실행을 찾습니다. 오래되었거나 API 총 건수가 달라져 구간 위치가 맞지 않는 실행은 폐기합니다.
+     *
+     * @param totalCount 현재 API 총 건수
+     * @return 다시 RUNNING 상태로 바뀐 실행
+     */
+    @Transactional
+    public Optional<JobSyncRun> resumeUnfinishedRun(int totalCount) {
+        Optional<JobSyncRun> unfinished = runRepository.findFirstByStatusInOrderByIdDesc(RESUMABLE_STATUSES);
+        if (unfinished.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JobSyncRun run = unfinished.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (run.getStartedAt().isBefore(now.minus(resumeMaxAge)) || run.getTotalCount() != totalCount) {
+            log.info("미완료 실행(ID: {})을 폐기합니다. (시작 {}, 총 건수 {} -> {})",
+                    run.getId(), run.getStartedAt(), run.getTotalCount(), totalCount);
+            run.abandon(now);
+            return Optional.empty();
+        }
+
+        run.resume();
+        return Optional.of(run);
+    }
+
+    /**
+     * 새 실행과 호출 구간 목록을 저장합니다.
+     *
+     * @param run 호출 구간을 추가한 새 실행
+     */
+    @Transactional
+    public JobSyncRun startRun(JobSyncRun run) {
+        return runRepository.save(run);
+    }
+
+    /**
+     * 실행에서 아직 완료되지 않은(PENDING, FAILED) 구간을 시작 인덱스 순으로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<JobSyncWindow> findUnfinishedWindows(Long runId) {
+        return windowRepository.findByRunIdAndStatusNotOrderByStartIndexAsc(runId, JobSyncWindowStatus.COMPLETED);
+    }
+
+    @Transactional
+    public void markWindowCompleted(Long windowId, int attempts, int processedCount) {
+        getWindow(windowId).complete(attempts, processedCount);
+    }
+
+    @Transactional
+    public void markWindowFailed(Long windowId, int attempts, String error) {
+        getWindow(windowId).fail(attempts, error);
+    }
+
+    /**
+     * 실행을 종료 상태(COMPLETED, FAILED)로 기록하고 이번 진행분의 결과를 누적합니다.
+     */
+    @Transactional
+    public void finishRun(Long runId, JobSyncRunStatus status, JobSaveResult result) {
+        JobSyncRun run = runRepository.findById(runId)
+                .orElseThrow(() -> new JobException(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "동기화 실행 기록을 찾을 수 없습니다. (ID: " + runId + ")"));
+        run.finish(status, result.inserted(), result.updated(), result.unchanged(), LocalDateTime.now());
+    }
+
+    private JobSyncWindow getWindow(Long windowId) {
+        return windowRepository.findById(windowId)
+                .orElseThrow(() -> new JobException(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "동기화 구간 기록을 찾을 수 없습니다. (ID: " + windowId + ")"));
+    }
+}
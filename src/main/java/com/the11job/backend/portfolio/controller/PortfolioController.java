@@ -1,5 +1,6 @@
 package com.the11job.backend.portfolio.controller;
 
+import com.the11job.backend.auth.annotation.LoginUser;
 import com.the11job.backend.portfolio.dto.PortfolioRegistrationRequestDto;
 import com.the11job.backend.portfolio.dto.PortfolioResponseDto;
 import com.the11job.backend.portfolio.service.PortfolioService;
@@ -8,7 +9,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,7 +21,7 @@ public class PortfolioController {
 
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<String> savePortfolio(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @RequestPart("dto") @Valid PortfolioRegistrationRequestDto requestDto,
             @RequestPart(value = "profileImage", required = false) MultipartFile profileImage) {
 
@@ -35,7 +35,7 @@ public class PortfolioController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getMyPortfolio(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getMyPortfolio(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
@@ -51,7 +51,7 @@ public class PortfolioController {
     }
 
     @DeleteMapping
-    public ResponseEntity<String> deleteMyPortfolio(@AuthenticationPrincipal User user) {
+    public ResponseEntity<String> deleteMyPortfolio(@LoginUser User user) {
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
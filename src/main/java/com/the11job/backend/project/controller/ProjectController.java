@@ -1,5 +1,6 @@
 package com.the11job.backend.project.controller;
 
+import com.the11job.backend.auth.annotation.LoginUser;
 import com.the11job.backend.global.exception.ErrorCode;
 import com.the11job.backend.project.dto.ProjectDto;
 import com.the11job.backend.project.dto.ProjectResponseDto;
@@ -11,7 +12,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -41,7 +41,7 @@ public class ProjectController {
 
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<String> addProject(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @RequestPart("dto") @Valid ProjectDto projectDto,
             @RequestPart(value = "image", required = false) MultipartFile image
     ) {
@@ -53,7 +53,7 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDto>> getMyProjects(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<ProjectResponseDto>> getMyProjects(@LoginUser User user) {
         // User가 null인 경우 validateUser에서 UserException(UNAUTHORIZED_USER)를 던져 401 응답 유도
         User validatedUser = validateUser(user);
 
@@ -64,7 +64,7 @@ public class ProjectController {
 
     @PutMapping(value = "/{projectId}", consumes = {"multipart/form-data"})
     public ResponseEntity<String> updateProject(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @PathVariable Long projectId,
             @RequestPart("dto") @Valid ProjectDto projectDto,
             @RequestPart(value = "image", required = false) MultipartFile image
@@ -80,7 +80,7 @@ public class ProjectController {
 
     @DeleteMapping("/{projectId}")
     public ResponseEntity<String> deleteProject(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @PathVariable Long projectId
     ) {
         // User가 null인 경우 validateUser에서 UserException(UNAUTHORIZED_USER)를 던져 401 응답 유도
@@ -1,6 +1,7 @@
 // src/main/java/com/the11job.backend.schedule.controller/ScheduleController.java (개선)
 package com.the11job.backend.schedule.controller;
 
+import com.the11job.backend.auth.annotation.LoginUser;
 import com.the11job.backend.schedule.dto.ScheduleRequest;
 import com.the11job.backend.schedule.dto.ScheduleResponse;
 import com.the11job.backend.schedule.entity.Schedule;
@@ -12,7 +13,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -33,7 +33,7 @@ public class ScheduleController {
     // --- C (Create) ---
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<ScheduleResponse> createSchedule(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @RequestPart("dto") @Valid ScheduleRequest request,
             @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) {
@@ -44,7 +44,7 @@ public class ScheduleController {
 
     // --- R (Read - All) ---
     @GetMapping
-    public ResponseEntity<List<ScheduleResponse>> getMySchedules(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<ScheduleResponse>> getMySchedules(@LoginUser User user) {
         List<Schedule> schedules = scheduleService.getUserSchedules(user);
 
         List<ScheduleResponse> response = schedules.stream().map(ScheduleResponse::new).collect(Collectors.toList());
@@ -54,7 +54,7 @@ public class ScheduleController {
     // --- R (Read - Detail) ---
     @GetMapping("/{scheduleId}")
     public ResponseEntity<ScheduleResponse> getScheduleDetail(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @PathVariable Long scheduleId
     ) {
         Schedule schedule = scheduleService.getScheduleDetail(user, scheduleId);
@@ -64,7 +64,7 @@ public class ScheduleController {
     // --- U (Update) ---
     @PutMapping(value = "/{scheduleId}", consumes = {"multipart/form-data"})
     public ResponseEntity<ScheduleResponse> updateSchedule(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @PathVariable Long scheduleId,
             @RequestPart("dto") @Valid ScheduleRequest request,
             @RequestPart(value = "files", required = false) List<MultipartFile> newFiles
@@ -77,7 +77,7 @@ public class ScheduleController {
     // --- D (Delete) ---
     @DeleteMapping("/{scheduleId}")
     public ResponseEntity<String> deleteSchedule(
-            @AuthenticationPrincipal User user,
+            @LoginUser User user,
             @PathVariable Long scheduleId
     ) {
         scheduleService.deleteSchedule(user, scheduleId);
@@ -0,0 +1,29 @@
+package com.the11job.backend.user.controller;
+
+import com.the11job.backend.user.dto.LoginResponse;
+import com.the11job.backend.user.dto.ReissueRequest;
+import com.the11job.backend.user.service.ReissueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ReissueController {
+
+    private final ReissueService reissueService;
+
+    /**
+     * refresh 토큰으로 access 토큰과 refresh 토큰을 새로 발급합니다. refresh 토큰은 요청 본문 또는 "refresh" 쿠키로 전달합니다.
+     */
+    @PostMapping("/api/reissue")
+    public ResponseEntity<LoginResponse> reissue(@RequestBody(required = false) ReissueRequest request,
+                                                 @CookieValue(value = "refresh", required = false) String refreshCookie) {
+        String refresh = (request != null && request.getRefreshToken() != null) ? request.getRefreshToken()
+                : refreshCookie;
+        return ResponseEntity.ok(reissueService.reissue(refresh));
+    }
+}
@@ -0,0 +1,75 @@
+package com.the11job.backend.user.dto;
+
+import com.the11job.backend.user.entity.User;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * JWT 인증 후 SecurityContext에 저장하는 가벼운 사용자 정보 (Principal)
+ * <p>
+ * 검증된 토큰의 클레임(사용자 ID, 이메일, 권한)만으로 만들므로 요청마다 사용자를 조회하지 않습니다.
+ */
+@Getter
+public class AuthUser implements UserDetails {
+
+    // 토큰에 권한이 없을 때 사용할 기본 권한
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private final Long id;
+    private final String email;
+    private final String role;
+
+    public AuthUser(Long id, String email, String role) {
+        this.id = id;
+        this.email = email;
+        this.role = role == null ? DEFAULT_ROLE : role;
+    }
+
+    /**
+     * 사용자 ID가 없는 이전 형식의 토큰을 처리할 때, 조회한 User로 만듭니다.
+     */
+    public static AuthUser from(User user) {
+        return new AuthUser(user.getId(), user.getEmail(), DEFAULT_ROLE);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    @Override
+    public String getPassword() {
+        // 토큰 인증에는 비밀번호가 필요 없음
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        // 이메일을 ID로 사용
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
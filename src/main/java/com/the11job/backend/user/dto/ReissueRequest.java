@@ -0,0 +1,12 @@
+package com.the11job.backend.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReissueRequest {
+    private String refreshToken;
+}
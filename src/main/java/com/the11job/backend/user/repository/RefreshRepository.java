@@ -1,15 +0,0 @@
-package com.the11job.backend.user.repository;
-
-import com.the11job.backend.global.entity.RefreshEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
-
-@Repository
-public interface RefreshRepository extends JpaRepository<RefreshEntity, Long> {
-
-    Boolean existsByRefresh(String refresh);
-
-    @Transactional
-    void deleteByRefresh(String refresh);
-}
\ No newline at end of file
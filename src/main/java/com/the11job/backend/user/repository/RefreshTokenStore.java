@@ -0,0 +1,126 @@
+package com.the11job.backend.user.repository;
+
+import com.the11job.backend.global.util.JWTUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis에 refresh 토큰을 저장하는 저장소
+ * <p>
+ * 토큰 원문 대신 SHA-256을 키로 사용하고(REFRESH_TOKEN:{해시} → 이메일), 토큰 만료 시간을 Redis TTL로 지정하여 만료된 토큰은 Redis가 제거합니다. 사용자별
+ * 세션 집합(REFRESH_SESSIONS:{이메일})에 토큰 해시를 모아 두어 사용자의 모든 세션을 한 번에 폐기할 수 있습니다.
+ */
+@Repository
+public class RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "REFRESH_TOKEN:";
+    private static final String SESSIONS_PREFIX = "REFRESH_SESSIONS:";
+    // 재발급에 사용되어 폐기된 토큰 (재사용 감지용, 원래 토큰의 만료 시각까지 유지)
+    private static final String USED_PREFIX = "REFRESH_TOKEN_USED:";
+
+    // 토큰 저장과 세션 집합 등록을 한 번에 실행 (세션 집합은 가장 늦게 만료되는 토큰까지 유지)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[3]) "
+                    + "redis.call('sadd', KEYS[2], ARGV[2]) "
+                    + "if redis.call('pttl', KEYS[2]) < tonumber(ARGV[3]) then redis.call('pexpire', KEYS[2], ARGV[3]) end "
+                    + "return 1",
+            Long.class);
+
+    // 저장된 토큰의 소유자가 같을 때만 새 토큰으로 교체 (compare-and-swap)
+    // 반환값: 1 = 교체, 0 = 저장되지 않은 토큰, -1 = 이미 교체에 사용된 토큰
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then "
+                    + "if redis.call('exists', KEYS[4]) == 1 then return -1 end "
+                    + "return 0 end "
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('srem', KEYS[3], ARGV[2]) "
+                    + "redis.call('set', KEYS[4], ARGV[1], 'PX', ARGV[5]) "
+                    + "redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[4]) "
+                    + "redis.call('sadd', KEYS[3], ARGV[3]) "
+                    + "if redis.call('pttl', KEYS[3]) < tonumber(ARGV[4]) then redis.call('pexpire', KEYS[3], ARGV[4]) end "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RefreshTokenStore(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * refresh 토큰을 사용자 세션으로 저장합니다.
+     *
+     * @param email   토큰 소유자 이메일
+     * @param refresh refresh 토큰
+     * @param ttl     토큰 만료까지 남은 시간
+     */
+    public void save(String email, String refresh, Duration ttl) {
+        String digest = JWTUtil.digest(refresh);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(TOKEN_PREFIX + digest, SESSIONS_PREFIX + email),
+                email, digest, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 저장된 refresh 토큰을 새 토큰으로 한 번에 교체합니다. 교체된 토큰은 원래 만료 시각까지 사용된 토큰으로 기록하여, 다시 제시되면 REUSED를 반환합니다.
+     *
+     * @param email         토큰 소유자 이메일
+     * @param oldRefresh    제시된 refresh 토큰
+     * @param oldRemaining  제시된 토큰의 만료까지 남은 시간
+     * @param newRefresh    새로 발급한 refresh 토큰
+     * @param newTtl        새 토큰의 만료 시간
+     */
+    public RotationResult rotate(String email, String oldRefresh, Duration oldRemaining, String newRefresh,
+                                 Duration newTtl) {
+        String oldDigest = JWTUtil.digest(oldRefresh);
+        String newDigest = JWTUtil.digest(newRefresh);
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + oldDigest, TOKEN_PREFIX + newDigest, SESSIONS_PREFIX + email,
+                        USED_PREFIX + oldDigest),
+                email, oldDigest, newDigest, String.valueOf(newTtl.toMillis()),
+                String.valueOf(Math.max(oldRemaining.toMillis(), 1L)));
+
+        if (result == null || result == 0L) {
+            return RotationResult.NOT_FOUND;
+        }
+        return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    /**
+     * refresh 토큰을 삭제합니다. (로그아웃)
+     *
+     * @return 저장되어 있던 토큰을 삭제했으면 true, 없거나 이미 만료된 토큰이면 false
+     */
+    public boolean delete(String email, String refresh) {
+        String digest = JWTUtil.digest(refresh);
+        boolean deleted = Boolean.TRUE.equals(redisTemplate.delete(TOKEN_PREFIX + digest));
+        redisTemplate.opsForSet().remove(SESSIONS_PREFIX + email, digest);
+        return deleted;
+    }
+
+    /**
+     * 사용자의 모든 refresh 토큰을 삭제합니다. (비밀번호 변경, 회원 탈퇴)
+     */
+    public void deleteAll(String email) {
+        String sessionsKey = SESSIONS_PREFIX + email;
+        Set<String> digests = redisTemplate.opsForSet().members(sessionsKey);
+        if (digests != null && !digests.isEmpty()) {
+            redisTemplate.delete(digests.stream().map(digest -> TOKEN_PREFIX + digest).toList());
+        }
+        redisTemplate.delete(sessionsKey);
+    }
+
+    /**
+     * refresh 토큰 교체 결과
+     */
+    public enum RotationResult {
+        ROTATED,   // 새 토큰으로 교체됨
+        NOT_FOUND, // 저장되지 않았거나 만료/폐기된 토큰
+        REUSED     // 이미 교체에 사용된 토큰 (탈취 의심)
+    }
+}
@@ -0,0 +1,73 @@
+package com.the11job.backend.user.service;
+
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.global.util.JWTUtil;
+import com.the11job.backend.global.util.VerifiedToken;
+import com.the11job.backend.global.util.VerifiedTokenCache;
+import com.the11job.backend.user.dto.LoginResponse;
+import com.the11job.backend.user.exception.UserException;
+import com.the11job.backend.user.repository.RefreshTokenStore;
+import com.the11job.backend.user.repository.RefreshTokenStore.RotationResult;
+import io.jsonwebtoken.ExpiredJwtException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * refresh 토큰으로 access 토큰을 재발급하는 서비스
+ * <p>
+ * 재발급할 때마다 refresh 토큰도 새로 발급하여 교체(rotation)하고, 이미 교체된 refresh 토큰이 다시 사용되면 탈취로 보고 사용자의 모든 세션을 폐기합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReissueService {
+
+    private final JWTUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public LoginResponse reissue(String refresh) throws UserException {
+        if (refresh == null || refresh.isBlank()) {
+            throw new UserException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 1. 서명/만료 검증 및 refresh 토큰인지 확인
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtUtil.verify(refresh);
+        } catch (ExpiredJwtException | IllegalArgumentException e) {
+            throw new UserException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        if (!verifiedToken.isCategory(VerifiedToken.REFRESH)) {
+            throw new UserException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 2. 새 토큰 발급
+        String email = verifiedToken.email();
+        String access = jwtUtil.createJwt(VerifiedToken.ACCESS, verifiedToken.userId(), email, verifiedToken.role(),
+                JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+        String newRefresh = jwtUtil.createJwt(VerifiedToken.REFRESH, verifiedToken.userId(), email,
+                verifiedToken.role(), JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+
+        // 3. 저장된 refresh 토큰을 새 토큰으로 교체 (compare-and-swap)
+        Duration remaining = Duration.ofMillis(verifiedToken.expiration().getTime() - System.currentTimeMillis());
+        RotationResult result = refreshTokenStore.rotate(email, refresh, remaining, newRefresh,
+                Duration.ofMillis(JWTUtil.REFRESH_TOKEN_EXPIRED_MS));
+
+        switch (result) {
+            case ROTATED:
+                return new LoginResponse(access, newRefresh);
+            case REUSED:
+                // 이미 교체된 토큰이 다시 사용됨: 토큰 탈취로 보고 사용자의 모든 세션 폐기
+                log.warn("이미 사용된 refresh 토큰으로 재발급 요청. 사용자의 모든 세션을 폐기합니다: {}", email);
+                refreshTokenStore.deleteAll(email);
+                verifiedTokenCache.invalidateUser(email);
+                throw new UserException(ErrorCode.REFRESH_TOKEN_REUSED);
+            case NOT_FOUND:
+            default:
+                throw new UserException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.the11job.backend.user.service;
 
 import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.global.util.VerifiedTokenCache;
 import com.the11job.backend.portfolio.service.PortfolioService;
 import com.the11job.backend.project.service.ProjectService;
 import com.the11job.backend.schedule.service.ScheduleService;
@@ -9,6 +10,7 @@ import com.the11job.backend.user.dto.EmailCheckRequest;
 import com.the11job.backend.user.dto.JoinRequest;
 import com.the11job.backend.user.entity.User;
 import com.the11job.backend.user.exception.UserException;
+import com.the11job.backend.user.repository.RefreshTokenStore;
 import com.the11job.backend.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,8 @@ public class UserService {
     private final ScheduleService scheduleService;
     private final PortfolioService portfolioService;
     private final ProjectService projectService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     // 이메일 체크
     public void emailValidate(EmailCheckRequest emailCheckRequest) throws UserException {
@@ -113,6 +117,10 @@ public class UserService {
         // 변경된 비밀번호를 DB에 저장
         userRepository.save(user);
 
+        // 이전 비밀번호로 발급된 토큰의 검증 캐시와 모든 refresh 토큰(세션) 제거
+        verifiedTokenCache.invalidateUser(email);
+        refreshTokenStore.deleteAll(email);
+
         // 성공 메시지 반환
         return new CheckResponse(true, "비밀번호가 성공적으로 변경되었습니다.");
     }
@@ -163,6 +171,8 @@ public class UserService {
 
         // 4. 연관된 데이터가 모두 정리된 후, 회원 삭제
         userRepository.delete(user);
+        verifiedTokenCache.invalidateUser(email);
+        refreshTokenStore.deleteAll(email);
 
         // 5. 성공 응답
         return new CheckResponse(true, "회원이 성공적으로 삭제되었습니다.");
@@ -0,0 +1,102 @@
+package com.the11job.backend.api.seouljob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.the11job.backend.api.exception.ApiClientException;
+import com.the11job.backend.global.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 응답을 읽는 도중 발생한 오류가 통신 오류(재시도 대상)와 파싱 오류로 올바르게 나뉘는지 확인합니다.
+ */
+class SeoulJobXmlParserTest {
+
+    private static final String PREFIX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<GetJobInfo><list_total_count>2</list_total_count>"
+            + "<row><JO_REQST_NO>K1</JO_REQST_NO></row>"
+            + "<row><JO_REQST_NO>K";
+
+    @Test
+    void parsesCompleteResponse() {
+        SeoulJobInfo jobInfo = SeoulJobXmlParser.parseJobInfo(utf8(PREFIX + "2</JO_REQST_NO></row></GetJobInfo>"));
+
+        assertThat(jobInfo.getListTotalCount()).isEqualTo("2");
+        assertThat(jobInfo.getJobDetails()).extracting(SeoulJobInfo.JobDetail::getJoRequestNo)
+                .containsExactly("K1", "K2");
+    }
+
+    @Test
+    void connectionFailureWhileReadingIsCommunicationError() {
+        ApiClientException e = parseFailure(failingAfter(PREFIX, new IOException("Connection reset by peer")));
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR);
+    }
+
+    @Test
+    void wrappedTimeoutWhileReadingIsCommunicationError() {
+        ApiClientException e = parseFailure(failingAfter(PREFIX, new IOException(new TimeoutException())));
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR);
+    }
+
+    @Test
+    void apiClientExceptionFromTransportIsPassedThrough() {
+        ApiClientException original = new ApiClientException(ErrorCode.API_EXTERNAL_COMMUNICATION_ERROR,
+                "API 서버 응답 오류: HTTP 503", null);
+
+        ApiClientException e = parseFailure(failingAfter(PREFIX, new IOException(original)));
+
+        assertThat(e).isSameAs(original);
+    }
+
+    @Test
+    void malformedXmlIsParsingError() {
+        ApiClientException e = parseFailure(utf8(PREFIX + "2</JO_REQST_NO></GetJobInfo>"));
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_PARSING_ERROR);
+    }
+
+    @Test
+    void invalidEncodingIsParsingError() {
+        byte[] invalidUtf8 = {(byte) 0xFF, (byte) 0xFE, '<', '/', 'r', 'o', 'w', '>'};
+        InputStream body = new SequenceInputStream(utf8(PREFIX), new ByteArrayInputStream(invalidUtf8));
+
+        ApiClientException e = parseFailure(body);
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.API_PARSING_ERROR);
+    }
+
+    private static ApiClientException parseFailure(InputStream body) {
+        Throwable e = catchThrowable(() -> SeoulJobXmlParser.parseJobInfo(body));
+        assertThat(e).isInstanceOf(ApiClientException.class);
+        return (ApiClientException) e;
+    }
+
+    private static InputStream utf8(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주어진 내용을 모두 읽은 뒤 다음 읽기에서 예외를 던지는 InputStream (응답 수신 중 연결이 끊긴 상황)
+     */
+    private static InputStream failingAfter(String xml, IOException failure) {
+        return new SequenceInputStream(utf8(xml), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                throw failure;
+            }
+        });
+    }
+}
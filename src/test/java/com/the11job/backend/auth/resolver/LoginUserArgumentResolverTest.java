@@ -0,0 +1,64 @@
+package com.the11job.backend.auth.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.user.dto.AuthUser;
+import com.the11job.backend.user.entity.User;
+import com.the11job.backend.user.exception.UserException;
+import com.the11job.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증된 사용자를 User 참조로 변환할 때, 토큰 발급 후 삭제된 사용자를 USER_NOT_EXIST로 처리하는지 확인합니다.
+ */
+class LoginUserArgumentResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(userRepository);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolvesReferenceForExistingUser() {
+        authenticate(new AuthUser(1L, "user@example.com", AuthUser.DEFAULT_ROLE));
+        User reference = mock(User.class);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
+
+        assertThat(resolver.resolveArgument(null, null, null, null)).isSameAs(reference);
+    }
+
+    @Test
+    void rejectsDeletedUser() {
+        authenticate(new AuthUser(2L, "deleted@example.com", AuthUser.DEFAULT_ROLE));
+        when(userRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> resolver.resolveArgument(null, null, null, null))
+                .isInstanceOf(UserException.class)
+                .extracting(e -> ((UserException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_NOT_EXIST);
+        verify(userRepository, never()).getReferenceById(2L);
+    }
+
+    @Test
+    void resolvesNullWhenNotAuthenticated() {
+        assertThat(resolver.resolveArgument(null, null, null, null)).isNull();
+    }
+
+    private static void authenticate(AuthUser authUser) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities()));
+    }
+}
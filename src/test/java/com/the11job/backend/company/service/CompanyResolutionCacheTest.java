@@ -0,0 +1,100 @@
+package com.the11job.backend.company.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.the11job.backend.company.repository.CompanyBulkRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 기업명 해석 캐시가 MySQL의 대소문자/악센트 구분 없는 비교(utf8mb4_0900_ai_ci)와 같은 결과를 내는지 확인합니다. (Docker 필요)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CompanyBulkRepository.class, CompanyResolutionCache.class})
+class CompanyResolutionCacheTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private CompanyResolutionCache companyResolutionCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void resolvesCaseVariantOfCachedName() {
+        Long id = insertCompany("ABC");
+        companyResolutionCache.warmUp();
+
+        Map<String, Long> resolved = companyResolutionCache.resolveAll(List.of("abc", "ABC", "abc"));
+
+        assertThat(resolved).containsOnlyKeys("abc", "ABC");
+        assertThat(resolved.values()).containsOnly(id);
+        assertThat(companyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resolvesCaseAndAccentVariantsOfStoredName() {
+        Long id = insertCompany("Café");
+
+        Map<String, Long> resolved = companyResolutionCache.resolveAll(List.of("cafe", "CAFÉ"));
+
+        assertThat(resolved).containsEntry("cafe", id).containsEntry("CAFÉ", id);
+        assertThat(companyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createsOneCompanyForCaseVariantsInSameChunk() {
+        Map<String, Long> resolved = companyResolutionCache.resolveAll(List.of("newco", "NEWCO", "newco", "다른기업"));
+
+        assertThat(resolved).containsOnlyKeys("newco", "NEWCO", "다른기업");
+        assertThat(resolved.get("newco")).isEqualTo(resolved.get("NEWCO"));
+        assertThat(resolved.get("다른기업")).isNotEqualTo(resolved.get("newco"));
+        assertThat(companyCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fallsBackToDatabaseComparisonWhenKeyDisagrees() {
+        // utf8mb4_0900_ai_ci에서 ß는 ss와 같지만, 비교 키(nameKey)에서는 다름
+        Long id = insertCompany("strasse");
+
+        Map<String, Long> resolved = companyResolutionCache.resolveAll(List.of("Straße"));
+
+        assertThat(resolved).containsEntry("Straße", id);
+        assertThat(companyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nameKeyIgnoresCaseAccentsAndWidth() {
+        assertThat(CompanyResolutionCache.nameKey("ABC")).isEqualTo(CompanyResolutionCache.nameKey("abc"));
+        assertThat(CompanyResolutionCache.nameKey("Café")).isEqualTo(CompanyResolutionCache.nameKey("cafe"));
+        assertThat(CompanyResolutionCache.nameKey("ＡＢＣ")).isEqualTo(CompanyResolutionCache.nameKey("abc"));
+        assertThat(CompanyResolutionCache.nameKey("삼성전자")).isNotEqualTo(CompanyResolutionCache.nameKey("삼성전기"));
+    }
+
+    private Long insertCompany(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO companies (name, created_date, updated_date) VALUES (?, ?, ?)", name, now,
+                now);
+        return jdbcTemplate.queryForObject("SELECT id FROM companies WHERE name = ?", Long.class, name);
+    }
+
+    private int companyCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM companies", Integer.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.the11job.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검증 결과를 재사용하고, 제거/크기 제한 시에는 다시 서명을 검증하는지 확인합니다.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "verified-token-cache-test-secret-key-0123";
+
+    private final JWTUtil jwtUtil = spy(new JWTUtil(SECRET));
+
+    @Test
+    void reusesVerifiedTokenUntilInvalidated() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, true, 16, Duration.ofMinutes(5));
+        String token = accessToken("user@example.com");
+
+        VerifiedToken first = cache.verify(token);
+        // 헤더에서 새로 잘라낸 문자열처럼 같은 내용의 다른 문자열로 조회
+        VerifiedToken second = cache.verify(new String(token));
+
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).verify(token);
+
+        cache.invalidateUser("user@example.com");
+        cache.verify(token);
+
+        verify(jwtUtil, times(2)).verify(token);
+    }
+
+    @Test
+    void skipsCachingWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, true, 1, Duration.ofMinutes(5));
+        String cachedToken = accessToken("first@example.com");
+        String otherToken = accessToken("second@example.com");
+
+        cache.verify(cachedToken);
+        cache.verify(otherToken);
+        cache.verify(otherToken);
+        cache.verify(cachedToken);
+
+        // 먼저 저장된 토큰은 유지되고, 공간이 없을 때 들어온 토큰은 매번 검증
+        verify(jwtUtil, times(1)).verify(cachedToken);
+        verify(jwtUtil, times(2)).verify(otherToken);
+    }
+
+    private String accessToken(String email) {
+        return jwtUtil.createJwt(VerifiedToken.ACCESS, 1L, email, "ROLE_USER", JWTUtil.ACCESS_TOKEN_EXPIRED_MS);
+    }
+}
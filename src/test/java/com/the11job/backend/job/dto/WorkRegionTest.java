@@ -0,0 +1,51 @@
+package com.the11job.backend.job.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 근무지 주소/필터 값을 지역으로 해석하는 규칙을 확인합니다.
+ */
+class WorkRegionTest {
+
+    @Test
+    void parsesSidoAndSigunguFromAddress() {
+        assertThat(WorkRegion.parse("서울특별시 강남구 테헤란로 27"))
+                .contains(new WorkRegion("11", "강남구"));
+        assertThat(WorkRegion.parse("경기 수원시 팔달구 효원로 1"))
+                .contains(new WorkRegion("41", "수원시"));
+    }
+
+    @Test
+    void skipsLeadingPostalCode() {
+        // 우편번호(5자리)나 번지 숫자를 시/도 코드로 읽지 않고 뒤의 시/도 이름을 찾음
+        assertThat(WorkRegion.parse("06236 서울특별시 강남구 테헤란로 27"))
+                .contains(new WorkRegion("11", "강남구"));
+        assertThat(WorkRegion.parse("11 부산광역시 해운대구 센텀로 30"))
+                .contains(new WorkRegion("26", "해운대구"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 시/도 이름 없이 숫자가 섞인 주소: 숫자가 시/도 코드(27=대구, 11=서울, 41=경기)와 같아도 해석하지 않음
+            "강남구 테헤란로 27",
+            "테헤란로 11 2층",
+            "41 번지 상가",
+            "27",
+            "중구 11 28"
+    })
+    void doesNotReadNumbersInAddressAsSidoCode(String address) {
+        assertThat(WorkRegion.parse(address)).isEmpty();
+    }
+
+    @Test
+    void resolvesFilterValueByCodeOrName() {
+        assertThat(WorkRegion.resolve("27")).contains(new WorkRegion("27", null));
+        assertThat(WorkRegion.resolve("서울")).contains(new WorkRegion("11", null));
+        assertThat(WorkRegion.resolve("11 강남구")).contains(new WorkRegion("11", "강남구"));
+        assertThat(WorkRegion.resolve("강남구")).contains(new WorkRegion(null, "강남구"));
+    }
+}
@@ -0,0 +1,349 @@
+package com.the11job.backend.job.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.the11job.backend.global.config.QuerydslConfig;
+import com.the11job.backend.global.util.NgramTokenizer;
+import com.the11job.backend.job.dto.JobCursor;
+import com.the11job.backend.job.dto.JobFilterRequest;
+import com.the11job.backend.job.entity.JobSearchField;
+import com.the11job.backend.job.entity.JobStatus;
+import com.the11job.backend.job.entity.Sido;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 채용 공고 목록 조회 쿼리의 실행 계획 회귀 테스트
+ * <p>
+ * MySQL 컨테이너에 20만 건을 적재한 뒤, 필터 조합(JobFilterRequest 형태)마다 JobRepositoryImpl이 실제로 실행한 SQL과 파라미터를 그대로 EXPLAIN 하여
+ * 테이블 전체 스캔(type=ALL)이나 filesort가 나오면 실패합니다. 전체(ALL) 검색의 관련도 정렬은 계산식 정렬이라 filesort를 허용하되, WHERE와 ORDER BY에
+ * 반복되는 토큰 서브쿼리가 행마다 다시 실행(DEPENDENT SUBQUERY)되지 않고 한 번씩만 실체화되는지 확인합니다.
+ * <p>
+ * 실행: ./gradlew queryPlanTest (Docker 필요)
+ */
+@Tag("query-plan")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, JobRepositoryQueryPlanTest.QueryCaptureConfig.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JobRepositoryQueryPlanTest {
+
+    private static final int JOB_COUNT = 200_000;
+    private static final int COMPANY_COUNT = 2_000;
+    private static final int BATCH_SIZE = 5_000;
+    // 검색 색인은 공고 10건 중 1건의 제목만 적재 (토큰 행 수 제한)
+    private static final int TITLE_INDEXED_EVERY = 10;
+
+    private static final List<String> CAREERS = List.of("신입", "경력", "무관", "신입·경력");
+    private static final List<String> ACADEMICS = List.of("학력무관", "고졸", "대졸(2~3년)", "대졸(4년)");
+    private static final List<String> JOB_NAMES = List.of(
+            "백엔드 개발자", "프론트엔드 개발자", "데이터 분석가", "사무 보조", "물류 관리", "요양 보호사", "조리사", "경비원");
+    private static final List<String> SIGUNGU_NAMES = List.of(
+            "강남구", "서초구", "송파구", "마포구", "영등포구", "중구", "종로구", "구로구", "금천구", "성동구");
+
+    private static final CapturedQueries CAPTURED = new CapturedQueries();
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> companies = new ArrayList<>();
+        for (int i = 0; i < COMPANY_COUNT; i++) {
+            companies.add(new Object[]{"기업" + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO companies (name, created_date, updated_date) VALUES (?, ?, ?)",
+                companies);
+        List<Long> companyIds = jdbcTemplate.queryForList("SELECT id FROM companies", Long.class);
+
+        String insertJob = "INSERT INTO jobs (company_id, request_no, title, work_address, sido_code, sigungu_name, "
+                + "job_code_name, academic_name, career_name, registration_date, expiration_date, detail_url, "
+                + "content_hash, status, closed_at, created_date, updated_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Sido[] sidos = Sido.values();
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < JOB_COUNT; i++) {
+            // 80%는 서울, 나머지는 다른 시/도에 분산
+            Sido sido = i % 5 == 0 ? sidos[i % sidos.length] : Sido.SEOUL;
+            String sigungu = SIGUNGU_NAMES.get(i % SIGUNGU_NAMES.size());
+            boolean closed = i % 10 == 0;
+            LocalDate registrationDate = i % 100 == 0 ? null : today.minusDays(i % 365);
+
+            batch.add(new Object[]{
+                    companyIds.get(i % companyIds.size()),
+                    "K" + i,
+                    JOB_NAMES.get(i % JOB_NAMES.size()) + " 채용 " + (i % 97),
+                    sido.getOfficialName() + " " + sigungu + " 테스트로 " + i,
+                    sido.getCode(),
+                    sigungu,
+                    JOB_NAMES.get(i % JOB_NAMES.size()),
+                    ACADEMICS.get(i % ACADEMICS.size()),
+                    CAREERS.get(i % CAREERS.size()),
+                    registrationDate,
+                    today.plusDays(i % 60),
+                    "https://job.seoul.go.kr/" + i,
+                    null,
+                    closed ? JobStatus.CLOSED.name() : JobStatus.OPEN.name(),
+                    closed ? now.minusDays(i % 40) : null,
+                    now,
+                    now});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(insertJob, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(insertJob, batch);
+
+        seedTitleTokens();
+
+        jdbcTemplate.execute("ANALYZE TABLE jobs, companies, job_search_tokens");
+        CAPTURED.clear();
+    }
+
+    private void seedTitleTokens() {
+        JobSearchIndexRepository indexRepository =
+                new JobSearchIndexRepository(new NamedParameterJdbcTemplate(dataSource));
+        Map<Long, Set<String>> tokensByJob = new HashMap<>();
+        indexRepository.forEachJobTitle((id, title) -> {
+            if (id % TITLE_INDEXED_EVERY == 0) {
+                tokensByJob.put(id, NgramTokenizer.bigrams(title));
+            }
+        });
+        indexRepository.replaceTokens(JobSearchField.TITLE, tokensByJob);
+    }
+
+    Stream<QueryShape> shapes() {
+        return Stream.of(
+                QueryShape.page("기본 목록", new JobFilterRequest()),
+                QueryShape.page("마감 공고 포함", filter(null, null, null, true)),
+                QueryShape.page("지원 자격", filter(null, "신입", null, false)),
+                QueryShape.page("시/도", filter("서울", null, null, false)),
+                QueryShape.page("시/도 + 시/군/구", filter("서울 강남구", null, null, false)),
+                QueryShape.page("시/군/구", filter("강남구", null, null, false)),
+                QueryShape.page("시/도 + 지원 자격", filter("11", "경력", null, false)),
+                QueryShape.relevance("검색어 (제목)", filter(null, null, "개발자", false)),
+                QueryShape.relevance("검색어 (전체) + 시/도", filter("서울", null, "데이터", false)),
+                QueryShape.page("검색어 (제목만)", search("개발자", "TITLE")),
+                QueryShape.page("검색어 (기업명만)", search("기업1", "COMPANY")),
+                QueryShape.cursor("커서 목록", new JobFilterRequest()),
+                QueryShape.cursor("커서 목록 + 지원 자격", filter(null, "신입", null, false)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("shapes")
+    void listingQueryAvoidsFullScanAndFilesort(QueryShape shape) throws Exception {
+        CAPTURED.clear();
+        if (shape.cursor()) {
+            jobRepository.findJobsByCursor(shape.request(),
+                    new JobCursor(LocalDate.now().minusDays(30), Long.MAX_VALUE), 11);
+        } else {
+            jobRepository.findJobsByFilter(shape.request(),
+                    PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "registrationDate")));
+        }
+
+        List<CapturedQuery> queries = CAPTURED.drain();
+        assertThat(queries).as("실행된 쿼리").isNotEmpty();
+
+        for (CapturedQuery query : queries) {
+            List<Map<String, Object>> plan = explain(query);
+            for (Map<String, Object> row : plan) {
+                String table = String.valueOf(row.get("table"));
+                String type = String.valueOf(row.get("type"));
+                String extra = String.valueOf(row.get("Extra"));
+                String description = shape.name() + "\nSQL: " + query.sql() + "\nPLAN: " + plan;
+
+                // <subquery2>, <derived3> 같은 내부 임시 테이블은 제외
+                if (!table.startsWith("<")) {
+                    assertThat(type).as("전체 스캔 - " + description).isNotEqualTo("ALL");
+                }
+                if (!shape.sortedByRelevance()) {
+                    assertThat(extra).as("filesort - " + description).doesNotContain("Using filesort");
+                } else {
+                    assertThat(String.valueOf(row.get("select_type")))
+                            .as("행마다 실행되는 서브쿼리 - " + description).isNotEqualTo("DEPENDENT SUBQUERY");
+                }
+            }
+        }
+    }
+
+    private List<Map<String, Object>> explain(CapturedQuery query) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            query.bind(statement);
+
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        row.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static JobFilterRequest filter(String workLocation, String career, String keyword, boolean includeClosed) {
+        JobFilterRequest request = new JobFilterRequest();
+        request.setWorkLocation(workLocation);
+        request.setCareerConditionName(career);
+        request.setSearchKeyword(keyword);
+        request.setIncludeClosed(includeClosed);
+        return request;
+    }
+
+    private static JobFilterRequest search(String keyword, String searchType) {
+        JobFilterRequest request = filter(null, null, keyword, false);
+        request.setSearchType(searchType);
+        return request;
+    }
+
+    /**
+     * 필터 조합과 조회 방식
+     */
+    record QueryShape(String name, JobFilterRequest request, boolean cursor, boolean sortedByRelevance) {
+
+        static QueryShape page(String name, JobFilterRequest request) {
+            return new QueryShape(name, request, false, false);
+        }
+
+        static QueryShape relevance(String name, JobFilterRequest request) {
+            return new QueryShape(name, request, false, true);
+        }
+
+        static QueryShape cursor(String name, JobFilterRequest request) {
+            return new QueryShape(name, request, true, false);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * 실행된 SELECT 문과 바인딩된 파라미터 (EXPLAIN 시 같은 값으로 다시 바인딩)
+     */
+    record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+
+        void bind(PreparedStatement statement) throws Exception {
+            for (ParameterSetOperation parameter : parameters) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+        }
+    }
+
+    /**
+     * DataSource 프록시로 실행된 SELECT 문을 모읍니다.
+     */
+    static final class CapturedQueries implements QueryExecutionListener {
+
+        private final List<CapturedQuery> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                String sql = queryInfo.getQuery().trim();
+                if (!sql.toLowerCase(Locale.ROOT).startsWith("select")) {
+                    continue;
+                }
+                List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : List.copyOf(queryInfo.getParametersList().get(0));
+                queries.add(new CapturedQuery(sql, parameters));
+            }
+        }
+
+        void clear() {
+            queries.clear();
+        }
+
+        List<CapturedQuery> drain() {
+            List<CapturedQuery> drained = List.copyOf(queries);
+            queries.clear();
+            return drained;
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(CAPTURED).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
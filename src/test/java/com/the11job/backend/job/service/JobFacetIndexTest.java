@@ -0,0 +1,102 @@
+package com.the11job.backend.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.the11job.backend.job.dto.JobFacetCount;
+import com.the11job.backend.job.dto.JobFacetResponse;
+import com.the11job.backend.job.dto.JobFilterRequest;
+import com.the11job.backend.job.entity.JobStatus;
+import com.the11job.backend.job.repository.JobFacetRepository;
+import com.the11job.backend.job.repository.JobFacetRepository.FacetRow;
+import com.the11job.backend.job.repository.JobRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 필터 항목별 건수가 "그 값을 선택했을 때의 공고 수"와 같은지 확인합니다.
+ */
+class JobFacetIndexTest {
+
+    private final JobFacetRepository jobFacetRepository = mock(JobFacetRepository.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobCatalogGeneration catalogGeneration = mock(JobCatalogGeneration.class);
+
+    private JobFacetIndex jobFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<FacetRow> rows = List.of(
+                row(1, "신입", "11"),
+                row(2, "경력", "11"),
+                row(3, "무관", "11"),
+                row(4, "무관", "26"),
+                row(5, null, "26"));
+        doAnswer(invocation -> {
+            Consumer<FacetRow> consumer = invocation.getArgument(0);
+            rows.forEach(consumer);
+            return null;
+        }).when(jobFacetRepository).forEachFacetRow(any());
+        when(catalogGeneration.current()).thenReturn(1L);
+
+        jobFacetIndex = new JobFacetIndex(jobFacetRepository, jobRepository, catalogGeneration, 16,
+                Duration.ofMinutes(10));
+    }
+
+    @Test
+    void careerCountIncludesIrrelevantJobs() {
+        JobFacetResponse response = jobFacetIndex.getFacets(new JobFilterRequest());
+
+        // '신입'을 선택하면 '신입' + '무관' 공고가 조회되고, '무관'을 선택하면 지원 자격 조건이 없어짐
+        assertThat(response.getCareerName())
+                .extracting(JobFacetCount::value, JobFacetCount::count)
+                .containsExactlyInAnyOrder(
+                        tuple("신입", 3L),
+                        tuple("경력", 3L),
+                        tuple("무관", 5L));
+    }
+
+    @Test
+    void careerCountMatchesTotalWhenSelected() {
+        JobFilterRequest request = new JobFilterRequest();
+        request.setCareerConditionName("신입");
+
+        JobFacetResponse response = jobFacetIndex.getFacets(request);
+
+        long selectedCount = response.getCareerName().stream()
+                .filter(count -> count.value().equals("신입"))
+                .findFirst().orElseThrow().count();
+        assertThat(response.getTotalCount()).isEqualTo(selectedCount);
+    }
+
+    @Test
+    void textFilterIdsAreLoadedOncePerGeneration() {
+        JobFilterRequest request = new JobFilterRequest();
+        request.setSearchKeyword("개발자");
+        when(jobRepository.findJobIdsByTextFilter(any())).thenReturn(List.of(1L, 3L));
+
+        jobFacetIndex.getFacets(request);
+        JobFacetResponse response = jobFacetIndex.getFacets(request);
+
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        verify(jobRepository, times(1)).findJobIdsByTextFilter(any());
+
+        when(catalogGeneration.current()).thenReturn(2L);
+        jobFacetIndex.getFacets(request);
+
+        verify(jobRepository, times(2)).findJobIdsByTextFilter(any());
+    }
+
+    private static FacetRow row(long id, String careerName, String sidoCode) {
+        return new FacetRow(id, JobStatus.OPEN, careerName, "학력무관", "개발", sidoCode, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.the11job.backend.job.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 직접 구현한 날짜 파싱이 기존 DateTimeFormatter 기반 파싱과 같은 결과를 내는지 확인합니다.
+ */
+class JobMapperTest {
+
+    // 변경 전 JobMapper가 사용하던 포맷터
+    private static final DateTimeFormatter LEGACY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-12-10", "2024-01-01", "1999-12-31",
+            // 윤년/평년의 2월 말일 (평년 2월 29일은 28일로 맞춤)
+            "2024-02-29", "2023-02-29", "2000-02-29", "1900-02-29",
+            // 달의 마지막 날을 넘는 날짜
+            "2025-04-31", "2025-02-31", "2025-01-32", "2025-13-01", "2025-00-10", "2025-01-00", "0000-01-01",
+            // 앞뒤 공백, 공백만 있는 값
+            " 2025-12-10", "2025-12-10 ", "\t2025-12-10\n", "   ",
+            // 숫자가 아닌 문자, 잘못된 구분자/길이
+            "2025-1a-10", "2O25-12-10", "2025/12/10", "2025-12-1", "2025-1-10", "25-12-10", "+025-12-10",
+            "2025-12-10T00", "２０２５-１２-１０", ""
+    })
+    void parsesDateSameAsLegacyFormatter(String value) {
+        assertThat(JobMapper.safeParseDate(value)).isEqualTo(legacyParseDate(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "마감일 (2025-12-10)", "채용시까지 (2024-02-29)", "마감일 (2023-02-29)", "마감일(2025-04-31)",
+            // 괄호 안의 공백, 빈 괄호
+            "마감일 ( 2025-12-10 )", "마감일 ()", "마감일 (   )",
+            // 닫는 괄호가 없거나 여는 괄호보다 앞에 있는 경우
+            "마감일 (2025-12-10", "마감일 2025-12-10)", ") 마감일 (2025-12-10)",
+            // 괄호 안이 날짜가 아닌 경우
+            "마감일 (상시)", "마감일 (2025-12-10, 18시)", "마감일 (2025.12.10)", "채용시까지"
+    })
+    void parsesClosingDateSameAsLegacyFormatter(String value) {
+        assertThat(JobMapper.safeParseClosingDate(value)).isEqualTo(legacyParseClosingDate(value));
+    }
+
+    @Test
+    void keepsLeapDay() {
+        LocalDate leapDay = LocalDate.of(2024, 2, 29);
+
+        assertThat(JobMapper.safeParseDate("2024-02-29")).isEqualTo(leapDay);
+        assertThat(JobMapper.safeParseClosingDate("마감일 (2024-02-29)")).isEqualTo(leapDay);
+    }
+
+    private static LocalDate legacyParseDate(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, LEGACY_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate legacyParseClosingDate(String value) {
+        if (value == null || !value.contains("(")) {
+            return null;
+        }
+        int start = value.indexOf('(') + 1;
+        int end = value.indexOf(')');
+        if (start > 0 && end > start) {
+            return legacyParseDate(value.substring(start, end));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.the11job.backend.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.the11job.backend.global.config.RedisConfig;
+import com.the11job.backend.user.repository.RefreshTokenStore.RotationResult;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * refresh 토큰 교체(ROTATED), 저장되지 않은 토큰(NOT_FOUND), 교체된 토큰 재사용 감지(REUSED)와 전체 세션 폐기를 Redis에서 확인합니다. (Docker 필요)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataRedisTest
+@Import({RedisConfig.class, RefreshTokenStore.class})
+class RefreshTokenStoreTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    @Qualifier("redisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void detectsReuseOfRotatedTokenAndDeletesAllSessions() {
+        refreshTokenStore.save(EMAIL, "refresh-1", TTL);
+
+        assertThat(refreshTokenStore.rotate(EMAIL, "refresh-1", TTL, "refresh-2", TTL))
+                .isEqualTo(RotationResult.ROTATED);
+        // 이미 교체에 사용된 토큰을 다시 제시하면 탈취 의심
+        assertThat(refreshTokenStore.rotate(EMAIL, "refresh-1", TTL, "refresh-3", TTL))
+                .isEqualTo(RotationResult.REUSED);
+
+        refreshTokenStore.deleteAll(EMAIL);
+
+        // 재사용 감지 후 세션을 모두 폐기하면 교체로 받은 토큰도 더 이상 사용할 수 없음
+        assertThat(refreshTokenStore.rotate(EMAIL, "refresh-2", TTL, "refresh-4", TTL))
+                .isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redisTemplate.hasKey("REFRESH_SESSIONS:" + EMAIL)).isFalse();
+    }
+
+    @Test
+    void returnsNotFoundForUnknownToken() {
+        assertThat(refreshTokenStore.rotate(EMAIL, "unknown", TTL, "refresh-1", TTL))
+                .isEqualTo(RotationResult.NOT_FOUND);
+        // 교체되지 않았으므로 새 토큰도 저장되지 않음
+        assertThat(refreshTokenStore.rotate(EMAIL, "refresh-1", TTL, "refresh-2", TTL))
+                .isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    void rejectsTokenAfterLogout() {
+        refreshTokenStore.save(EMAIL, "refresh-1", TTL);
+
+        assertThat(refreshTokenStore.delete(EMAIL, "refresh-1")).isTrue();
+        assertThat(refreshTokenStore.rotate(EMAIL, "refresh-1", TTL, "refresh-2", TTL))
+                .isEqualTo(RotationResult.NOT_FOUND);
+    }
+}
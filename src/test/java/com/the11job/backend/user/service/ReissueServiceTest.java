@@ -0,0 +1,42 @@
+package com.the11job.backend.user.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.the11job.backend.global.exception.ErrorCode;
+import com.the11job.backend.global.util.JWTUtil;
+import com.the11job.backend.global.util.VerifiedToken;
+import com.the11job.backend.global.util.VerifiedTokenCache;
+import com.the11job.backend.user.exception.UserException;
+import com.the11job.backend.user.repository.RefreshTokenStore;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * refresh 토큰이 아닌 토큰(access 토큰, 종류가 없는 이전 형식 토큰)으로는 재발급할 수 없는지 확인합니다.
+ */
+class ReissueServiceTest {
+
+    private static final String SECRET = "reissue-service-test-secret-key-0123456789";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final ReissueService reissueService =
+            new ReissueService(jwtUtil, refreshTokenStore, mock(VerifiedTokenCache.class));
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = VerifiedToken.ACCESS)
+    void rejectsTokenWithoutRefreshCategory(String category) {
+        String token = jwtUtil.createJwt(category, 1L, "user@example.com", "ROLE_USER",
+                JWTUtil.REFRESH_TOKEN_EXPIRED_MS);
+
+        assertThatThrownBy(() -> reissueService.reissue(token))
+                .isInstanceOf(UserException.class)
+                .extracting(e -> ((UserException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        verifyNoInteractions(refreshTokenStore);
+    }
+}